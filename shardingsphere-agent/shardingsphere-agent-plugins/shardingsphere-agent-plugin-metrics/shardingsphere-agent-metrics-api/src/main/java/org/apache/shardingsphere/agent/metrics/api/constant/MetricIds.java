@@ -49,6 +49,8 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String EXECUTION_PLAN_CACHE_INFO = "execution_plan_cache_info";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
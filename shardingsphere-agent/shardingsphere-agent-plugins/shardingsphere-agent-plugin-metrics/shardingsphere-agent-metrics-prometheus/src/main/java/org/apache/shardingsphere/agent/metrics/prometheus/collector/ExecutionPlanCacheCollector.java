@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Execution plan cache collector.
+ */
+public final class ExecutionPlanCacheCollector extends Collector {
+    
+    private static final String HIT_COUNT = "hit_count";
+    
+    private static final String MISS_COUNT = "miss_count";
+    
+    private static final String EVICTION_COUNT = "eviction_count";
+    
+    private static final String SIZE = "size";
+    
+    private static final String MAXIMUM_SIZE = "maximum_size";
+    
+    private static final String PROXY_CONTEXT_CLASS = "org.apache.shardingsphere.proxy.backend.context.ProxyContext";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        Optional<GaugeMetricFamily> executionPlanCacheInfo = FACTORY.createGaugeMetricFamily(MetricIds.EXECUTION_PLAN_CACHE_INFO);
+        if (null != ProxyContext.getInstance().getContextManager() && executionPlanCacheInfo.isPresent() && MetricsUtil.isClassExisted(PROXY_CONTEXT_CLASS)) {
+            collectProxy(executionPlanCacheInfo.get());
+            result.add(executionPlanCacheInfo.get());
+        }
+        return result;
+    }
+    
+    private void collectProxy(final GaugeMetricFamily metricFamily) {
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            ExecutionPlanCache.find(each).ifPresent(optional -> collectExecutionPlanCache(metricFamily, each.getName(), optional));
+        }
+    }
+    
+    private void collectExecutionPlanCache(final GaugeMetricFamily metricFamily, final String databaseName, final ExecutionPlanCache executionPlanCache) {
+        metricFamily.addMetric(Arrays.asList(databaseName, HIT_COUNT), executionPlanCache.getHitCount());
+        metricFamily.addMetric(Arrays.asList(databaseName, MISS_COUNT), executionPlanCache.getMissCount());
+        metricFamily.addMetric(Arrays.asList(databaseName, EVICTION_COUNT), executionPlanCache.getEvictionCount());
+        metricFamily.addMetric(Arrays.asList(databaseName, SIZE), executionPlanCache.getSize());
+        metricFamily.addMetric(Arrays.asList(databaseName, MAXIMUM_SIZE), executionPlanCache.getMaximumSize());
+    }
+}
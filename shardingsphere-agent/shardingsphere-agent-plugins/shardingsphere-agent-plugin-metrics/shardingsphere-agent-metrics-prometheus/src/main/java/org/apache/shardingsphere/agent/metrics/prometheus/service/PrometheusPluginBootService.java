@@ -25,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.agent.config.PluginConfiguration;
 import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.BuildInfoCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.ExecutionPlanCacheCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.MetaDataInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.ProxyInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
@@ -63,6 +64,7 @@ public final class PrometheusPluginBootService implements PluginBootService {
         new ProxyInfoCollector().register();
         new BuildInfoCollector().register();
         new MetaDataInfoCollector().register();
+        new ExecutionPlanCacheCollector().register();
         if (enabled) {
             DefaultExports.initialize();
         }
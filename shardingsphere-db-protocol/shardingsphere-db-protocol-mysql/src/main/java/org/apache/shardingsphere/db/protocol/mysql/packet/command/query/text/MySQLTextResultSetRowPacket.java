@@ -40,6 +40,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE = {1};
+    
+    private static final byte[] FALSE = {0};
+    
     private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     private final int sequenceId;
@@ -63,11 +67,12 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    String value = each.toString();
+                    payload.writeStringLenenc(value.substring(0, value.indexOf('.')));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
+                    payload.writeBytesLenenc((Boolean) each ? TRUE : FALSE);
                 } else if (each instanceof LocalDateTime) {
                     payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
                 } else {
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -203,9 +204,26 @@ public final class MySQLPacketPayloadTest {
     
     @Test
     public void assertWriteStringLenenc() {
-        new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).writeStringLenenc("value");
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("value");
+        assertThat(actual.readUnsignedByte(), is((short) 5));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("value"));
+    }
+    
+    @Test
+    public void assertWriteStringLenencWithMultiBytesCharacters() {
+        String value = new String(new int[]{0x503C, 0x1F600}, 0, 2);
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc(value);
+        assertThat(actual.readUnsignedByte(), is((short) value.getBytes(StandardCharsets.UTF_8).length));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is(value));
+    }
+    
+    @Test
+    public void assertWriteStringLenencWithNonUTF8Charset() {
+        new MySQLPacketPayload(byteBuf, StandardCharsets.ISO_8859_1).writeStringLenenc("value");
         verify(byteBuf).writeByte(5);
-        verify(byteBuf).writeBytes("value".getBytes());
+        verify(byteBuf).writeBytes("value".getBytes(StandardCharsets.ISO_8859_1));
     }
     
     @Test
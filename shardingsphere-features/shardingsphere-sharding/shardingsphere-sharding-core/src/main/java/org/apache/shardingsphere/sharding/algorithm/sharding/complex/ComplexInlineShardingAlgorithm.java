@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.complex;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
@@ -33,6 +31,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -49,7 +48,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Getter
     private Properties props;
     
-    private String algorithmExpression;
+    private Function<Map<String, ?>, String> algorithmFunction;
     
     private Collection<String> shardingColumns;
     
@@ -58,7 +57,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Override
     public void init(final Properties props) {
         this.props = props;
-        algorithmExpression = getAlgorithmExpression(props);
+        algorithmFunction = new InlineExpressionParser(getAlgorithmExpression(props)).evaluateFunction();
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
     }
@@ -91,15 +90,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
             throw new IllegalArgumentException("Complex inline need " + shardingColumns.size() + " sharing columns, but only found " + columnNameAndShardingValuesMap.size());
         }
         Collection<Map<String, Comparable<?>>> combine = combine(columnNameAndShardingValuesMap);
-        return combine.stream().map(this::doSharding).collect(Collectors.toList());
-    }
-    
-    private String doSharding(final Map<String, Comparable<?>> shardingValues) {
-        Closure<?> closure = createClosure();
-        for (Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
-            closure.setProperty(entry.getKey(), entry.getValue());
-        }
-        return closure.call().toString();
+        return combine.stream().map(algorithmFunction).collect(Collectors.toList());
     }
     
     private static <K, V> Collection<Map<K, V>> combine(final Map<K, Collection<V>> map) {
@@ -127,12 +118,6 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return result;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "COMPLEX_INLINE";
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.MemoryQueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValue;
@@ -117,8 +118,8 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     }
     
     private boolean isEmptyOrderByValue(final OrderByValue orderByValue) {
-        return orderByValue.getQueryResult() instanceof JDBCMemoryQueryResult
-                && 0 == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getRowCount() && ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).wasNull();
+        return orderByValue.getQueryResult() instanceof MemoryQueryResult
+                && 0 == ((MemoryQueryResult) orderByValue.getQueryResult()).getRowCount() && ((MemoryQueryResult) orderByValue.getQueryResult()).wasNull();
     }
     
     private void addOrderedResultSetsToQueue(final List<FetchOrderByValueGroup> fetchOrderByValueGroups, final List<QueryResult> queryResults) {
@@ -150,8 +151,8 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     private long getGroupRowCount(final FetchOrderByValueGroup fetchOrderByValueGroup) {
         long result = 0;
         for (OrderByValue each : fetchOrderByValueGroup.getOrderByValues()) {
-            if (each.getQueryResult() instanceof JDBCMemoryQueryResult) {
-                JDBCMemoryQueryResult queryResult = (JDBCMemoryQueryResult) each.getQueryResult();
+            if (each.getQueryResult() instanceof MemoryQueryResult) {
+                MemoryQueryResult queryResult = (MemoryQueryResult) each.getQueryResult();
                 result += queryResult.wasNull() ? queryResult.getRowCount() : queryResult.getRowCount() + 1;
             }
         }
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Spill file for group by, which stores rows in a temporary file with compact binary format.
+ */
+@Slf4j
+final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-group-by-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INTEGER = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte DOUBLE = 3;
+    
+    private static final byte FLOAT = 4;
+    
+    private static final byte SHORT = 5;
+    
+    private static final byte BYTE = 6;
+    
+    private static final byte BOOLEAN = 7;
+    
+    private static final byte STRING = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte DATE = 11;
+    
+    private static final byte TIME = 12;
+    
+    private static final byte TIMESTAMP = 13;
+    
+    private static final byte BYTES = 14;
+    
+    private static final byte SERIALIZED = 15;
+    
+    private final int columnCount;
+    
+    private final File file;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private long rowCount;
+    
+    private long readRowCount;
+    
+    GroupBySpillFile(final int columnCount, final File directory) throws SQLException {
+        this.columnCount = columnCount;
+        try {
+            file = null == directory ? Files.createTempFile(FILE_PREFIX, FILE_SUFFIX).toFile() : Files.createTempFile(directory.toPath(), FILE_PREFIX, FILE_SUFFIX).toFile();
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            throw new SQLException("Can not create group by spill file", ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws SQLException SQL exception
+     */
+    void write(final Object[] row) throws SQLException {
+        try {
+            for (Object each : row) {
+                writeValue(each);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(String.format("Can not write group by spill file `%s`", file), ex);
+        }
+        rowCount++;
+    }
+    
+    private void writeValue(final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == value.getClass()) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else {
+            output.writeByte(SERIALIZED);
+            writeBytes(serialize(value));
+        }
+    }
+    
+    private void writeBytes(final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Get size of written bytes.
+     *
+     * @return size of written bytes
+     * @throws SQLException SQL exception
+     */
+    long getSize() throws SQLException {
+        try {
+            if (null != output) {
+                output.flush();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(String.format("Can not flush group by spill file `%s`", file), ex);
+        }
+        return file.length();
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows have been read
+     * @throws SQLException SQL exception
+     */
+    Object[] read() throws SQLException {
+        if (readRowCount >= rowCount) {
+            return null;
+        }
+        try {
+            if (null == input) {
+                output.close();
+                output = null;
+                input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+            }
+            Object[] result = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = readValue();
+            }
+            readRowCount++;
+            return result;
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new SQLException(String.format("Can not read group by spill file `%s`", file), ex);
+        }
+    }
+    
+    private Object readValue() throws IOException, ClassNotFoundException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case BYTES:
+                return readBytes();
+            case SERIALIZED:
+                try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(readBytes()))) {
+                    return objectInputStream.readObject();
+                }
+            default:
+                throw new IOException(String.format("Unknown spilled value type `%s`", type));
+        }
+    }
+    
+    private byte[] readBytes() throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (null != output) {
+                output.close();
+            }
+            if (null != input) {
+                input.close();
+            }
+        } catch (final IOException ignored) {
+        } finally {
+            output = null;
+            input = null;
+            delete();
+        }
+    }
+    
+    private void delete() {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException ex) {
+            log.warn("Can not delete group by spill file `{}`", file, ex);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable merged result for group by.
+ * 
+ * <p>Rows are aggregated in memory until the estimated memory usage of groups exceeds the spill threshold.
+ * After that, rows of groups which are not in memory yet are hash partitioned into spill files, then every partition is aggregated and sorted in turn,
+ * and the sorted groups are merged with the groups in memory.</p>
+ * 
+ * <p>Spill files are deleted as soon as they are fully read, or when the merged result is closed.</p>
+ */
+@Slf4j
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final long GROUP_OVERHEAD_BYTES = 256L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private final File spillDirectory;
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private SortedRun currentRun;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    @Getter
+    private long spilledRowCount;
+    
+    @Getter
+    private long spilledBytes;
+    
+    @Getter
+    private int spilledPartitionCount;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long spillThresholdBytes, final String spillDirectory) throws SQLException {
+        this.spillDirectory = Strings.isNullOrEmpty(spillDirectory) ? null : new File(spillDirectory);
+        List<Boolean> valueCaseSensitive = GroupByAggregator.getValueCaseSensitive(queryResults, selectStatementContext, schema);
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> comparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_COUNT];
+        Collection<SortedRun> runs = new LinkedList<>();
+        boolean succeed = false;
+        try {
+            GroupByAggregator aggregator = aggregate(queryResults, selectStatementContext, spillThresholdBytes, partitions);
+            runs.add(new SortedRun(aggregator.getSortedRows(valueCaseSensitive).iterator()));
+            for (GroupBySpillFile each : partitions) {
+                if (null != each) {
+                    runs.add(createSortedRun(each, queryResults.get(0).getMetaData(), selectStatementContext, schema));
+                }
+            }
+            for (SortedRun each : runs) {
+                if (each.next()) {
+                    sortedRuns.offer(each);
+                }
+            }
+            succeed = true;
+        } finally {
+            if (!succeed) {
+                closeQuietly(partitions, runs);
+            }
+        }
+        if (spilledPartitionCount > 0) {
+            log.info("Group by merge spilled {} rows ({} bytes) into {} partitions", spilledRowCount, spilledBytes, spilledPartitionCount);
+        }
+    }
+    
+    private GroupByAggregator aggregate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final long spillThresholdBytes, final GroupBySpillFile[] partitions) throws SQLException {
+        GroupByAggregator result = new GroupByAggregator(selectStatementContext);
+        long estimatedBytes = 0L;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (estimatedBytes < spillThresholdBytes || result.contains(groupByValue)) {
+                    if (result.aggregate(each, groupByValue)) {
+                        estimatedBytes += estimateGroupBytes(each);
+                    }
+                } else {
+                    spill(each, groupByValue, partitions);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private long estimateGroupBytes(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        long result = GROUP_OVERHEAD_BYTES + REFERENCE_BYTES * columnCount;
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateValueBytes(queryResult.getValue(i, Object.class));
+        }
+        return result;
+    }
+    
+    private long estimateValueBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return 64L;
+        }
+        return 24L;
+    }
+    
+    private void spill(final QueryResult queryResult, final GroupByValue groupByValue, final GroupBySpillFile[] partitions) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        int partitionIndex = Math.floorMod(groupByValue.hashCode(), PARTITION_COUNT);
+        if (null == partitions[partitionIndex]) {
+            partitions[partitionIndex] = new GroupBySpillFile(columnCount, spillDirectory);
+            spilledPartitionCount++;
+        }
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        partitions[partitionIndex].write(row);
+        spilledRowCount++;
+    }
+    
+    private SortedRun createSortedRun(final GroupBySpillFile partition, final QueryResultMetaData metaData,
+                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        spilledBytes += partition.getSize();
+        int columnCount = metaData.getColumnCount();
+        GroupBySpillFile result = new GroupBySpillFile(columnCount, spillDirectory);
+        QueryResult partitionQueryResult = new GroupBySpillQueryResult(partition, metaData);
+        boolean succeed = false;
+        try {
+            MergedResult partitionMergedResult = new GroupByMemoryMergedResult(Collections.singletonList(partitionQueryResult), selectStatementContext, schema);
+            while (partitionMergedResult.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = partitionMergedResult.getValue(i + 1, Object.class);
+                }
+                result.write(row);
+            }
+            succeed = true;
+        } finally {
+            partition.close();
+            if (!succeed) {
+                result.close();
+            }
+        }
+        spilledBytes += result.getSize();
+        return new SortedRun(result);
+    }
+    
+    private void closeQuietly(final GroupBySpillFile[] partitions, final Collection<SortedRun> runs) {
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                each.close();
+            }
+        }
+        runs.forEach(SortedRun::close);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != currentRun) {
+            if (currentRun.next()) {
+                sortedRuns.offer(currentRun);
+            } else {
+                currentRun.close();
+            }
+        }
+        currentRun = sortedRuns.poll();
+        if (null == currentRun) {
+            currentRow = null;
+            return false;
+        }
+        currentRow = currentRun.getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        if (null != currentRun) {
+            currentRun.close();
+            currentRun = null;
+        }
+        sortedRuns.forEach(SortedRun::close);
+        sortedRuns.clear();
+        currentRow = null;
+    }
+    
+    private static final class SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        private final GroupBySpillFile spillFile;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        SortedRun(final Iterator<MemoryQueryResultRow> rows) {
+            this.rows = rows;
+            spillFile = null;
+        }
+        
+        SortedRun(final GroupBySpillFile spillFile) {
+            rows = null;
+            this.spillFile = spillFile;
+        }
+        
+        boolean next() throws SQLException {
+            if (null != rows) {
+                currentRow = rows.hasNext() ? rows.next() : null;
+            } else {
+                Object[] data = spillFile.read();
+                currentRow = null == data ? null : new MemoryQueryResultRow(data);
+            }
+            return null != currentRow;
+        }
+        
+        void close() {
+            if (null != spillFile) {
+                spillFile.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merging.
+ * 
+ * <p>Every internal node keeps the loser of the match between its children, and the overall winner is kept at the top,
+ * so that replacing the winner only replays the matches on the path from its leaf to the root, which takes log(k) comparisons.
+ * A replayed value loses to equal values already in the tree, so equal values are merged in arrival order.</p>
+ *
+ * @param <T> type of value
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private static final int MIN_LEAF = -1;
+    
+    private final Object[] leaves;
+    
+    private final int[] tree;
+    
+    public LoserTree(final List<T> values) {
+        leaves = values.toArray();
+        tree = new int[Math.max(leaves.length, 1)];
+        Arrays.fill(tree, MIN_LEAF);
+        for (int i = 0; i < leaves.length; i++) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Judge whether all values are exhausted.
+     *
+     * @return all values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || null == leaves[tree[0]];
+    }
+    
+    /**
+     * Get winner.
+     *
+     * @return winner, null if all values are exhausted
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return 0 == leaves.length ? null : (T) leaves[tree[0]];
+    }
+    
+    /**
+     * Replay matches of winner after its value changed.
+     *
+     * @param exhausted whether winner is exhausted
+     */
+    public void adjustWinner(final boolean exhausted) {
+        if (0 == leaves.length) {
+            return;
+        }
+        int winner = tree[0];
+        if (exhausted) {
+            leaves[winner] = null;
+        }
+        adjust(winner);
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + leaves.length) / 2; parent > 0; parent /= 2) {
+            if (!isWinner(winner, tree[parent])) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private boolean isWinner(final int leaf, final int otherLeaf) {
+        if (MIN_LEAF == leaf) {
+            return true;
+        }
+        if (MIN_LEAF == otherLeaf) {
+            return false;
+        }
+        if (null == leaves[leaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        return ((T) leaves[leaf]).compareTo((T) leaves[otherLeaf]) < 0;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -33,7 +34,6 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -49,13 +49,36 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<Boolean> orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final long[] integralOrderValues;
+    
+    private final boolean[] integralOrderValueFlags;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        orderIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullOrderDirections = new OrderDirection[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            i++;
+        }
+        orderValues = new Comparable<?>[orderByItems.size()];
+        integralOrderValues = new long[orderByItems.size()];
+        integralOrderValueFlags = new boolean[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +122,39 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderIndexes.length; i++) {
+            Object value = queryResult.getValue(orderIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            integralOrderValueFlags[i] = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+            if (integralOrderValueFlags[i]) {
+                integralOrderValues[i] = ((Number) value).longValue();
+            }
+            orderValues[i] = value instanceof String && !orderValuesCaseSensitive.get(i) ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = integralOrderValueFlags[i] && o.integralOrderValueFlags[i]
+                    ? compareIntegralOrderValue(integralOrderValues[i], o.integralOrderValues[i], orderDirections[i])
+                    : CompareUtil.compareTo(orderValues[i], o.orderValues[i], orderDirections[i], nullOrderDirections[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareIntegralOrderValue(final long thisValue, final long otherValue, final OrderDirection orderDirection) {
+        int result = Long.compare(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
 }
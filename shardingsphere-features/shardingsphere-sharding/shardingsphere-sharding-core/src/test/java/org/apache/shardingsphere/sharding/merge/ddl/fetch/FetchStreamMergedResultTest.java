@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.binder.statement.ddl.CursorStatementConte
 import org.apache.shardingsphere.infra.binder.statement.ddl.FetchStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.MemoryQueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.sharding.merge.ddl.ShardingDDLResultMerger;
@@ -42,7 +43,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -189,4 +192,16 @@ public final class FetchStreamMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertMinGroupRowCountForMemoryQueryResults() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(MemoryQueryResult.class, RETURNS_DEEP_STUBS), mock(MemoryQueryResult.class, RETURNS_DEEP_STUBS));
+        for (QueryResult each : queryResults) {
+            when(each.next()).thenReturn(true, false);
+            when(((MemoryQueryResult) each).getRowCount()).thenReturn(3L);
+        }
+        MergedResult actual = resultMerger.merge(queryResults, fetchCountStatementContext, database);
+        assertThat(FetchOrderByValueGroupsHolder.getMinGroupRowCounts().get("t_order_cursor"), is(3L));
+        assertTrue(actual.next());
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Rule
+    public final TemporaryFolder spillDirectory = new TemporaryFolder();
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        MergedResult actual = merge(1L);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledRowCount() > 0L);
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledBytes() > 0L);
+        assertTrue(((GroupBySpillMergedResult) actual).getSpilledPartitionCount() > 0);
+        assertMergedResult(actual);
+        assertSpillDirectoryIsEmpty();
+    }
+    
+    @Test
+    public void assertCloseBeforeFullyRead() throws SQLException {
+        MergedResult actual = merge(1L);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertTrue(spillDirectory.getRoot().list().length > 0);
+        actual.close();
+        assertSpillDirectoryIsEmpty();
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        MergedResult actual = merge(1L);
+        assertTrue(actual.next());
+        assertThat(actual.getCalendarValue(3, Object.class, Calendar.getInstance()), is(6));
+        assertFalse(actual.wasNull());
+        actual.close();
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        MergedResult actual = merge(Long.MAX_VALUE);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledRowCount(), is(0L));
+        assertThat(((GroupBySpillMergedResult) actual).getSpilledPartitionCount(), is(0));
+        assertMergedResult(actual);
+    }
+    
+    private MergedResult merge(final long spillThresholdBytes) throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), spillThresholdBytes, spillDirectory.getRoot().getAbsolutePath());
+        return resultMerger.merge(Arrays.asList(createQueryResult(1, 2, 3, 4), createQueryResult(2, 3, 4, 5), createQueryResult(5, 6)),
+                createSelectStatementContext(), mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS));
+    }
+    
+    private void assertMergedResult(final MergedResult actual) throws SQLException {
+        assertRow(actual, 6, 1);
+        assertRow(actual, 5, 2);
+        assertRow(actual, 4, 2);
+        assertRow(actual, 3, 2);
+        assertRow(actual, 2, 2);
+        assertRow(actual, 1, 1);
+        assertFalse(actual.next());
+    }
+    
+    private void assertSpillDirectoryIsEmpty() {
+        assertThat(spillDirectory.getRoot().list().length, is(0));
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(id));
+        assertThat(actual.getValue(3, Object.class), is(id));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(count)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(id * count)));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchemas().get(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private QueryResult createQueryResult(final int... ids) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        int[] rowIndex = {-1};
+        when(result.next()).thenAnswer(invocation -> ++rowIndex[0] < ids.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> {
+            int id = ids[rowIndex[0]];
+            switch (invocation.<Integer>getArgument(0)) {
+                case 1:
+                case 4:
+                    return 1;
+                default:
+                    return id;
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertEmpty() {
+        LoserTree<SortedValues> actual = new LoserTree<>(Collections.<SortedValues>emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+    }
+    
+    @Test
+    public void assertMerge() {
+        List<SortedValues> values = new ArrayList<>();
+        for (List<Integer> each : Arrays.asList(Arrays.asList(1, 4, 7), Arrays.asList(2, 2, 9), Collections.singletonList(5), Arrays.asList(0, 3, 6, 8), Arrays.asList(1, 10))) {
+            SortedValues sortedValues = new SortedValues(each.iterator());
+            if (sortedValues.next()) {
+                values.add(sortedValues);
+            }
+        }
+        LoserTree<SortedValues> loserTree = new LoserTree<>(values);
+        List<Integer> actual = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            SortedValues winner = loserTree.peek();
+            actual.add(winner.current);
+            loserTree.adjustWinner(!winner.next());
+        }
+        assertThat(actual, is(Arrays.asList(0, 1, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    @Test
+    public void assertMergeEqualValuesInArrivalOrder() {
+        List<SortedValues> values = Arrays.asList(new SortedValues(Collections.singletonList(1).iterator()),
+                new SortedValues(Collections.singletonList(1).iterator()), new SortedValues(Arrays.asList(0, 1).iterator()));
+        values.forEach(SortedValues::next);
+        LoserTree<SortedValues> loserTree = new LoserTree<>(values);
+        List<Integer> actual = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            SortedValues winner = loserTree.peek();
+            actual.add(values.indexOf(winner));
+            loserTree.adjustWinner(!winner.next());
+        }
+        assertThat(actual, is(Arrays.asList(2, 0, 1, 2)));
+    }
+    
+    private static final class SortedValues implements Comparable<SortedValues> {
+        
+        private final Iterator<Integer> values;
+        
+        private Integer current;
+        
+        SortedValues(final Iterator<Integer> values) {
+            this.values = values;
+        }
+        
+        boolean next() {
+            if (!values.hasNext()) {
+                return false;
+            }
+            current = values.next();
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final SortedValues o) {
+            return current.compareTo(o.current);
+        }
+    }
+}
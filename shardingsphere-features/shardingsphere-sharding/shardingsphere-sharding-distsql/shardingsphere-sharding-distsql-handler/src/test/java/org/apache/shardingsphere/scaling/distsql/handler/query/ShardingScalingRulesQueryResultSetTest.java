@@ -81,7 +81,7 @@ public final class ShardingScalingRulesQueryResultSetTest {
     }
     
     private OnRuleAlteredActionConfiguration buildCompleteConfiguration() {
-        InputConfiguration inputConfig = new InputConfiguration(10, 100, 10, new ShardingSphereAlgorithmConfiguration("QPS", createProperties("qps", "50")));
+        InputConfiguration inputConfig = new InputConfiguration(10, 100, 10, new ShardingSphereAlgorithmConfiguration("QPS", createProperties("qps", "50")), null, null, null);
         OutputConfiguration outputConfig = new OutputConfiguration(10, 100, new ShardingSphereAlgorithmConfiguration("TPS", createProperties("tps", "2000")));
         ShardingSphereAlgorithmConfiguration streamChannel = new ShardingSphereAlgorithmConfiguration("MEMORY", createProperties("block-queue-size", "10000"));
         ShardingSphereAlgorithmConfiguration completionDetector = new ShardingSphereAlgorithmConfiguration("IDLE", createProperties("incremental-task-idle-seconds-threshold", "1800"));
@@ -47,6 +47,28 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of kernel executor type: PLATFORM(default), VIRTUAL. The VIRTUAL option executes each execution group on a virtual thread when running on JDK 21 or later,
+     * otherwise on a cached thread pool. The concurrency of VIRTUAL option is limited by {@link ConfigurationPropertyKey#KERNEL_EXECUTOR_SIZE} if it is greater than 0.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", "PLATFORM", String.class, true),
+    
+    /**
+     * Max cached execution plans size for each database. The default value is 0, which means execution plan cache is disabled.
+     */
+    KERNEL_EXECUTION_PLAN_CACHE_SIZE("kernel-execution-plan-cache-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Estimated memory bytes of groups for group by merging in memory, rows of new groups will be spilled to temporary files after the threshold is exceeded.
+     * The default value is 0, which means spilling is disabled.
+     */
+    KERNEL_GROUP_BY_MERGE_SPILL_THRESHOLD_BYTES("kernel-group-by-merge-spill-threshold-bytes", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Directory of temporary files for group by merging spilling. The default value is empty, which means the directory of system property java.io.tmpdir is used.
+     */
+    KERNEL_GROUP_BY_MERGE_SPILL_DIRECTORY("kernel-group-by-merge-spill-directory", "", String.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -88,6 +110,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether load query results of connection strictly mode into column vectors instead of rows for ShardingSphere-Proxy. It reduces boxed objects held for large query results.
+     */
+    PROXY_BACKEND_COLUMNAR_QUERY_RESULT_ENABLED("proxy-backend-columnar-query-result-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max cached physical prepared statements size for each backend connection of ShardingSphere-Proxy. The default value is 0, which means prepared statement cache is disabled.
+     */
+    PROXY_BACKEND_STATEMENT_CACHE_SIZE("proxy-backend-statement-cache-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether replay session variables on backend connections of ShardingSphere-Proxy. Variables are set on each acquired connection and reset before the connection is returned to pool.
+     */
+    PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED("proxy-backend-session-variables-replay-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
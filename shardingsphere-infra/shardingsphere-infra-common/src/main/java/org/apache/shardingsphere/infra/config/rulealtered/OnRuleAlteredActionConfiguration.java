@@ -52,6 +52,12 @@ public final class OnRuleAlteredActionConfiguration {
         private final Integer shardingSize;
         
         private final ShardingSphereAlgorithmConfiguration rateLimiter;
+        
+        private final Boolean streamingQuery;
+        
+        private final Integer streamingQueryMaxRows;
+        
+        private final Integer incrementalDecodeThread;
     }
     
     @RequiredArgsConstructor
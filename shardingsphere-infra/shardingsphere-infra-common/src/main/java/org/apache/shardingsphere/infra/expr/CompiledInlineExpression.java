@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Inline expression which only contains integer literals, variables, {@code +}, {@code -}, {@code *}, {@code %}, parentheses and {@code .hashCode()}
+ * is compiled into lambdas, so that it can be evaluated without groovy. Evaluation is absent if values of variables are not supported,
+ * and the caller should evaluate the expression with groovy to keep the same semantics.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "class", "properties", "metaClass"));
+    
+    private final List<Node> segments;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, absent if grammar of inline expression is not supported
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Node> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < inlineExpression.length()) {
+            char each = inlineExpression.charAt(i);
+            if ('\\' == each || '"' == each) {
+                return Optional.empty();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                i++;
+                continue;
+            }
+            int end = inlineExpression.indexOf('}', i);
+            if (i + 1 >= inlineExpression.length() || '{' != inlineExpression.charAt(i + 1) || end < 0) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new Parser(inlineExpression.substring(i + 2, end)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            if (literal.length() > 0) {
+                String value = literal.toString();
+                segments.add(variables -> value);
+                literal.setLength(0);
+            }
+            segments.add(node.get());
+            i = end + 1;
+        }
+        if (literal.length() > 0) {
+            String value = literal.toString();
+            segments.add(variables -> value);
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables
+     * @return evaluated result, absent if values of variables are not supported
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder();
+        for (Node each : segments) {
+            Object value = each.evaluate(variables);
+            if (UNSUPPORTED == value) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if (UNSUPPORTED == left || UNSUPPORTED == right) {
+            return UNSUPPORTED;
+        }
+        if ('+' == operator && left instanceof String) {
+            return left + String.valueOf(right);
+        }
+        if (!isIntegral(left) || !isIntegral(right)) {
+            return UNSUPPORTED;
+        }
+        if (left instanceof Long || right instanceof Long) {
+            return calculate(operator, ((Number) left).longValue(), ((Number) right).longValue());
+        }
+        return calculate(operator, ((Number) left).intValue(), ((Number) right).intValue());
+    }
+    
+    private static long calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static int calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        if (value instanceof Long) {
+            return -(Long) value;
+        }
+        return UNSUPPORTED;
+    }
+    
+    private static Object hashCode(final Object value) {
+        return null == value || UNSUPPORTED == value ? UNSUPPORTED : value.hashCode();
+    }
+    
+    @FunctionalInterface
+    private interface Node {
+        
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseAdditive();
+            skipWhitespaces();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (null != result && (isNext('+') || isNext('-'))) {
+                char operator = expression.charAt(position++);
+                if (isRepeated(operator)) {
+                    return null;
+                }
+                Node left = result;
+                Node right = parseMultiplicative();
+                result = null == right ? null : variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+            }
+            return result;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (null != result && (isNext('*') || isNext('%'))) {
+                char operator = expression.charAt(position++);
+                if (isRepeated(operator)) {
+                    return null;
+                }
+                Node left = result;
+                Node right = parseUnary();
+                result = null == right ? null : variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+            }
+            return result;
+        }
+        
+        private Node parseUnary() {
+            if (isNext('-')) {
+                position++;
+                if (isRepeated('-')) {
+                    return null;
+                }
+                Node operand = parseUnary();
+                return null == operand ? null : variables -> negate(operand.evaluate(variables));
+            }
+            return parsePostfix();
+        }
+        
+        private Node parsePostfix() {
+            Node result = parsePrimary();
+            while (null != result && expression.startsWith(".hashCode()", position)) {
+                position += ".hashCode()".length();
+                Node target = result;
+                result = variables -> CompiledInlineExpression.hashCode(target.evaluate(variables));
+            }
+            return result;
+        }
+        
+        private Node parsePrimary() {
+            skipWhitespaces();
+            if (position >= expression.length()) {
+                return null;
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                Node result = parseAdditive();
+                if (null == result || !isNext(')')) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (Character.isDigit(current)) {
+                return parseInteger();
+            }
+            if (Character.isJavaIdentifierStart(current) && '$' != current) {
+                return parseVariable();
+            }
+            return null;
+        }
+        
+        private Node parseInteger() {
+            int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(position)) || '.' == expression.charAt(position))) {
+                return null;
+            }
+            String literal = expression.substring(start, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0)) {
+                return null;
+            }
+            Object value;
+            try {
+                long longValue = Long.parseLong(literal);
+                value = longValue <= Integer.MAX_VALUE ? (Object) (int) longValue : (Object) longValue;
+            } catch (final NumberFormatException ignored) {
+                return null;
+            }
+            return variables -> value;
+        }
+        
+        private Node parseVariable() {
+            int start = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+                position++;
+            }
+            String name = expression.substring(start, position);
+            return RESERVED_WORDS.contains(name) ? null : variables -> variables.get(name);
+        }
+        
+        private boolean isNext(final char expected) {
+            skipWhitespaces();
+            return position < expression.length() && expected == expression.charAt(position);
+        }
+        
+        private boolean isRepeated(final char operator) {
+            return position < expression.length() && operator == expression.charAt(position);
+        }
+        
+        private void skipWhitespaces() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
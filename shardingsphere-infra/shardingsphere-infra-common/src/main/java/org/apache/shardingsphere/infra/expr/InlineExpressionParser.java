@@ -23,6 +23,7 @@ import groovy.lang.Closure;
 import groovy.lang.GString;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
+import groovy.util.Expando;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
@@ -31,8 +32,10 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -87,6 +90,28 @@ public final class InlineExpressionParser {
         return (Closure<?>) evaluate("{it -> \"" + inlineExpression + "\"}");
     }
     
+    /**
+     * Evaluate function.
+     * 
+     * <p>The function is compiled from inline expression if its grammar is supported by {@link CompiledInlineExpression}, otherwise it evaluates closure with groovy.</p>
+     *
+     * @return function to evaluate inline expression with variables
+     */
+    public Function<Map<String, ?>, String> evaluateFunction() {
+        Optional<CompiledInlineExpression> compiledInlineExpression = CompiledInlineExpression.compile(handlePlaceHolder(inlineExpression));
+        if (!compiledInlineExpression.isPresent()) {
+            return this::evaluateWithClosure;
+        }
+        return variables -> compiledInlineExpression.get().evaluate(variables).orElseGet(() -> evaluateWithClosure(variables));
+    }
+    
+    private String evaluateWithClosure(final Map<String, ?> variables) {
+        Closure<?> closure = evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        variables.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
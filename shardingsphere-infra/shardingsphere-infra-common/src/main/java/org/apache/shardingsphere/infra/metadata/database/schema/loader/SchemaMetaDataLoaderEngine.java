@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.loader;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -29,13 +30,16 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.Tab
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectSchemaMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectSchemaMetaDataLoaderFactory;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -47,6 +51,8 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class SchemaMetaDataLoaderEngine {
     
+    private static final int TABLE_BATCH_SIZE = 1000;
+    
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
@@ -74,32 +80,62 @@ public final class SchemaMetaDataLoaderEngine {
     private static Map<String, SchemaMetaData> loadByDefault(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType) throws SQLException {
         Collection<TableMetaData> result = new LinkedList<>();
         String defaultSchemaName = null;
+        Collection<Future<Collection<TableMetaData>>> futures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterials each : materials) {
             defaultSchemaName = each.getDefaultSchemaName();
-            for (String tableName : each.getActualTableNames()) {
-                TableMetaDataLoader.load(each.getDataSource(), tableName, databaseType).ifPresent(result::add);
+            for (Collection<String> tableNames : partitionTableNames(each.getActualTableNames())) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> loadTableMetaData(each.getDataSource(), tableNames, databaseType)));
             }
         }
+        for (Future<Collection<TableMetaData>> each : futures) {
+            result.addAll(getFutureResult(each));
+        }
         return Collections.singletonMap(defaultSchemaName, new SchemaMetaData(defaultSchemaName, result));
     }
     
+    private static Collection<TableMetaData> loadTableMetaData(final DataSource dataSource, final Collection<String> tableNames, final DatabaseType databaseType) throws SQLException {
+        Collection<TableMetaData> result = new LinkedList<>();
+        for (String each : tableNames) {
+            TableMetaDataLoader.load(dataSource, each, databaseType).ifPresent(result::add);
+        }
+        return result;
+    }
+    
     private static Map<String, SchemaMetaData> loadByDialect(final DialectSchemaMetaDataLoader loader, final Collection<SchemaMetaDataLoaderMaterials> materials) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>();
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterials each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> loader.load(each.getDataSource(), each.getActualTableNames(), each.getDefaultSchemaName())));
+            Collection<Collection<String>> tableBatches = partitionTableNames(each.getActualTableNames());
+            if (1 == tableBatches.size()) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> loader.load(each.getDataSource(), each.getActualTableNames(), each.getDefaultSchemaName())));
+                continue;
+            }
+            for (Callable<Collection<SchemaMetaData>> task : loader.createLoadTasks(each.getDataSource(), tableBatches, each.getDefaultSchemaName())) {
+                futures.add(EXECUTOR_SERVICE.submit(task));
+            }
         }
+        for (Future<Collection<SchemaMetaData>> each : futures) {
+            mergeSchemaMetaDataMap(result, getFutureResult(each));
+        }
+        return result;
+    }
+    
+    private static Collection<Collection<String>> partitionTableNames(final Collection<String> tableNames) {
+        if (tableNames.size() <= TABLE_BATCH_SIZE) {
+            return Collections.singletonList(tableNames);
+        }
+        return new ArrayList<>(Lists.partition(new ArrayList<>(tableNames), TABLE_BATCH_SIZE));
+    }
+    
+    private static <T> T getFutureResult(final Future<T> future) throws SQLException {
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                mergeSchemaMetaDataMap(result, each.get());
-            }
+            return future.get();
         } catch (final InterruptedException | ExecutionException ex) {
             if (ex.getCause() instanceof SQLException) {
                 throw (SQLException) ex.getCause();
             }
             throw new ShardingSphereException(ex);
         }
-        return result;
     }
     
     private static void mergeSchemaMetaDataMap(final Map<String, SchemaMetaData> schemaMetaDataMap, final Collection<SchemaMetaData> addedSchemaMetaDataList) {
@@ -39,6 +39,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -57,12 +58,27 @@ public final class OpenGaussSchemaMetaDataLoader implements DialectSchemaMetaDat
             + " JOIN information_schema.key_column_usage kc ON kc.table_schema = tc.table_schema AND kc.table_name = tc.table_name AND kc.constraint_name = tc.constraint_name"
             + " WHERE tc.constraint_type = 'PRIMARY KEY' AND kc.ordinal_position IS NOT NULL AND kc.table_schema IN (%s)";
     
+    private static final String PRIMARY_KEY_META_DATA_SQL_WITH_TABLES = PRIMARY_KEY_META_DATA_SQL + " AND tc.table_name IN (%s)";
+    
     private static final String BASIC_INDEX_META_DATA_SQL = "SELECT tablename, indexname, schemaname FROM pg_indexes WHERE schemaname IN (%s)";
     
+    private static final String INDEX_META_DATA_SQL_WITH_TABLES = BASIC_INDEX_META_DATA_SQL + " AND tablename IN (%s)";
+    
     @Override
     public Collection<SchemaMetaData> load(final DataSource dataSource, final Collection<String> tables, final String defaultSchemaName) throws SQLException {
         Collection<String> schemaNames = loadSchemaNames(dataSource, DatabaseTypeFactory.getInstance(getType()));
-        Map<String, Multimap<String, IndexMetaData>> schemaIndexMetaDataMap = loadIndexMetaDataMap(dataSource, schemaNames);
+        return loadSchemaMetaData(dataSource, tables, schemaNames);
+    }
+    
+    @Override
+    public Collection<Callable<Collection<SchemaMetaData>>> createLoadTasks(final DataSource dataSource, final Collection<Collection<String>> tableBatches,
+                                                                            final String defaultSchemaName) throws SQLException {
+        Collection<String> schemaNames = loadSchemaNames(dataSource, DatabaseTypeFactory.getInstance(getType()));
+        return tableBatches.stream().map(each -> (Callable<Collection<SchemaMetaData>>) () -> loadSchemaMetaData(dataSource, each, schemaNames)).collect(Collectors.toList());
+    }
+    
+    private Collection<SchemaMetaData> loadSchemaMetaData(final DataSource dataSource, final Collection<String> tables, final Collection<String> schemaNames) throws SQLException {
+        Map<String, Multimap<String, IndexMetaData>> schemaIndexMetaDataMap = loadIndexMetaDataMap(dataSource, tables, schemaNames);
         Map<String, Multimap<String, ColumnMetaData>> schemaColumnMetaDataMap = loadColumnMetaDataMap(dataSource, tables, schemaNames);
         Collection<SchemaMetaData> result = new LinkedList<>();
         for (String each : schemaNames) {
@@ -88,7 +104,7 @@ public final class OpenGaussSchemaMetaDataLoader implements DialectSchemaMetaDat
         Map<String, Multimap<String, ColumnMetaData>> result = new LinkedHashMap<>();
         try (Connection connection = dataSource.getConnection(); PreparedStatement preparedStatement = connection.prepareStatement(getColumnMetaDataSQL(schemaNames, tables))) {
             Map<String, Integer> dataTypes = DataTypeLoader.load(connection.getMetaData());
-            Set<String> primaryKeys = loadPrimaryKeys(connection, schemaNames);
+            Set<String> primaryKeys = loadPrimaryKeys(connection, tables, schemaNames);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     String tableName = resultSet.getString("table_name");
@@ -101,9 +117,9 @@ public final class OpenGaussSchemaMetaDataLoader implements DialectSchemaMetaDat
         return result;
     }
     
-    private Set<String> loadPrimaryKeys(final Connection connection, final Collection<String> schemaNames) throws SQLException {
+    private Set<String> loadPrimaryKeys(final Connection connection, final Collection<String> tables, final Collection<String> schemaNames) throws SQLException {
         Set<String> result = new HashSet<>();
-        try (PreparedStatement preparedStatement = connection.prepareStatement(getPrimaryKeyMetaDataSQL(schemaNames))) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getPrimaryKeyMetaDataSQL(tables, schemaNames))) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     String schemaName = resultSet.getString("table_schema");
@@ -116,8 +132,10 @@ public final class OpenGaussSchemaMetaDataLoader implements DialectSchemaMetaDat
         return result;
     }
     
-    private String getPrimaryKeyMetaDataSQL(final Collection<String> schemaNames) {
-        return String.format(PRIMARY_KEY_META_DATA_SQL, schemaNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
+    private String getPrimaryKeyMetaDataSQL(final Collection<String> tables, final Collection<String> schemaNames) {
+        String schemaNameParameter = schemaNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
+        return tables.isEmpty() ? String.format(PRIMARY_KEY_META_DATA_SQL, schemaNameParameter)
+                : String.format(PRIMARY_KEY_META_DATA_SQL_WITH_TABLES, schemaNameParameter, tables.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
     }
     
     private ColumnMetaData loadColumnMetaData(final Map<String, Integer> dataTypeMap, final Set<String> primaryKeys, final ResultSet resultSet) throws SQLException {
@@ -139,9 +157,9 @@ public final class OpenGaussSchemaMetaDataLoader implements DialectSchemaMetaDat
                 : String.format(TABLE_META_DATA_SQL_WITH_TABLES, schemaNameParameter, tables.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
     }
     
-    private Map<String, Multimap<String, IndexMetaData>> loadIndexMetaDataMap(final DataSource dataSource, final Collection<String> schemaNames) throws SQLException {
+    private Map<String, Multimap<String, IndexMetaData>> loadIndexMetaDataMap(final DataSource dataSource, final Collection<String> tables, final Collection<String> schemaNames) throws SQLException {
         Map<String, Multimap<String, IndexMetaData>> result = new LinkedHashMap<>();
-        try (Connection connection = dataSource.getConnection(); PreparedStatement preparedStatement = connection.prepareStatement(getIndexMetaDataSQL(schemaNames))) {
+        try (Connection connection = dataSource.getConnection(); PreparedStatement preparedStatement = connection.prepareStatement(getIndexMetaDataSQL(tables, schemaNames))) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     String schemaName = resultSet.getString("schemaname");
@@ -155,8 +173,10 @@ public final class OpenGaussSchemaMetaDataLoader implements DialectSchemaMetaDat
         return result;
     }
     
-    private String getIndexMetaDataSQL(final Collection<String> schemaNames) {
-        return String.format(BASIC_INDEX_META_DATA_SQL, schemaNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
+    private String getIndexMetaDataSQL(final Collection<String> tables, final Collection<String> schemaNames) {
+        String schemaNameParameter = schemaNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
+        return tables.isEmpty() ? String.format(BASIC_INDEX_META_DATA_SQL, schemaNameParameter)
+                : String.format(INDEX_META_DATA_SQL_WITH_TABLES, schemaNameParameter, tables.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
     }
     
     @Override
@@ -28,6 +28,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 /**
  * Dialect schema meta data loader.
@@ -46,6 +48,22 @@ public interface DialectSchemaMetaDataLoader extends TypedSPI {
      */
     Collection<SchemaMetaData> load(DataSource dataSource, Collection<String> tables, String defaultSchemaName) throws SQLException;
     
+    /**
+     * Create load tasks of table batches.
+     * 
+     * <p>Meta data shared by all tables such as schema names should be loaded only once here, and each returned task only loads meta data of its own table batch.</p>
+     *
+     * @param dataSource data source
+     * @param tableBatches table batches
+     * @param defaultSchemaName default schema name
+     * @return load tasks of table batches
+     * @throws SQLException SQL exception
+     */
+    default Collection<Callable<Collection<SchemaMetaData>>> createLoadTasks(final DataSource dataSource, final Collection<Collection<String>> tableBatches,
+                                                                             final String defaultSchemaName) throws SQLException {
+        return tableBatches.stream().map(each -> (Callable<Collection<SchemaMetaData>>) () -> load(dataSource, each, defaultSchemaName)).collect(Collectors.toList());
+    }
+    
     /**
      * Load schema names.
      *
@@ -51,6 +51,12 @@ public final class YamlOnRuleAlteredActionConfiguration implements YamlConfigura
         
         private static final Integer DEFAULT_SHARDING_SIZE = 1000_0000;
         
+        private static final Boolean DEFAULT_STREAMING_QUERY = false;
+        
+        private static final Integer DEFAULT_STREAMING_QUERY_MAX_ROWS = 100000;
+        
+        private static final Integer DEFAULT_INCREMENTAL_DECODE_THREAD = 0;
+        
         private Integer workerThread = DEFAULT_WORKER_THREAD;
         
         private Integer batchSize = DEFAULT_BATCH_SIZE;
@@ -59,6 +65,12 @@ public final class YamlOnRuleAlteredActionConfiguration implements YamlConfigura
         
         private YamlShardingSphereAlgorithmConfiguration rateLimiter;
         
+        private Boolean streamingQuery = DEFAULT_STREAMING_QUERY;
+        
+        private Integer streamingQueryMaxRows = DEFAULT_STREAMING_QUERY_MAX_ROWS;
+        
+        private Integer incrementalDecodeThread = DEFAULT_INCREMENTAL_DECODE_THREAD;
+        
         /**
          * Build with default value.
          *
@@ -81,6 +93,15 @@ public final class YamlOnRuleAlteredActionConfiguration implements YamlConfigura
             if (null == shardingSize) {
                 shardingSize = DEFAULT_SHARDING_SIZE;
             }
+            if (null == streamingQuery) {
+                streamingQuery = DEFAULT_STREAMING_QUERY;
+            }
+            if (null == streamingQueryMaxRows) {
+                streamingQueryMaxRows = DEFAULT_STREAMING_QUERY_MAX_ROWS;
+            }
+            if (null == incrementalDecodeThread) {
+                incrementalDecodeThread = DEFAULT_INCREMENTAL_DECODE_THREAD;
+            }
         }
     }
     
@@ -76,6 +76,9 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
             result.setBatchSize(data.getBatchSize());
             result.setShardingSize(data.getShardingSize());
             result.setRateLimiter(ALGORITHM_CONFIG_YAML_SWAPPER.swapToYamlConfiguration(data.getRateLimiter()));
+            result.setStreamingQuery(data.getStreamingQuery());
+            result.setStreamingQueryMaxRows(data.getStreamingQueryMaxRows());
+            result.setIncrementalDecodeThread(data.getIncrementalDecodeThread());
             return result;
         }
         
@@ -85,7 +88,8 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
                 return null;
             }
             return new InputConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getShardingSize(),
-                    ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()));
+                    ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()), yamlConfig.getStreamingQuery(), yamlConfig.getStreamingQueryMaxRows(),
+                    yamlConfig.getIncrementalDecodeThread());
         }
     }
     
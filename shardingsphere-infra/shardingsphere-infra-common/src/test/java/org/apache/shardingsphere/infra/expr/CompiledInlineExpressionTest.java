@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileWithUnsupportedGrammar() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.intdiv(2)}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${['a', 'b']}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${0..1}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_$order_id").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateModulo() {
+        assertThat(evaluate("t_order_${order_id % 4}", Collections.singletonMap("order_id", 10)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateArithmetic() {
+        assertThat(evaluate("t_order_${(order_id + 3) * 2 - -1}", Collections.singletonMap("order_id", 1)), is("t_order_9"));
+    }
+    
+    @Test
+    public void assertEvaluateLong() {
+        assertThat(evaluate("t_order_${order_id % 10}", Collections.singletonMap("order_id", 99999999999L)), is("t_order_9"));
+    }
+    
+    @Test
+    public void assertEvaluateHashCode() {
+        assertThat(evaluate("ds_${user_id.hashCode() % 4}", Collections.singletonMap("user_id", "abc")), is("ds_" + "abc".hashCode() % 4));
+    }
+    
+    @Test
+    public void assertEvaluateMultipleVariables() {
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("order_id", 3);
+        variables.put("user_id", 4);
+        assertThat(evaluate("ds_${user_id % 2}.t_order_${order_id % 2}", variables), is("ds_0.t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateStringConcatenation() {
+        assertThat(evaluate("t_${value + 1}", Collections.singletonMap("value", "order_")), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> compiledInlineExpression = CompiledInlineExpression.compile("t_order_${order_id % 2}");
+        assertTrue(compiledInlineExpression.isPresent());
+        assertFalse(compiledInlineExpression.get().evaluate(Collections.singletonMap("order_id", 1.5D)).isPresent());
+        assertFalse(compiledInlineExpression.get().evaluate(Collections.emptyMap()).isPresent());
+    }
+    
+    private String evaluate(final String inlineExpression, final Map<String, ?> variables) {
+        Optional<CompiledInlineExpression> compiledInlineExpression = CompiledInlineExpression.compile(inlineExpression);
+        assertTrue(compiledInlineExpression.isPresent());
+        Optional<String> result = compiledInlineExpression.get().evaluate(variables);
+        assertTrue(result.isPresent());
+        return result.get();
+    }
+}
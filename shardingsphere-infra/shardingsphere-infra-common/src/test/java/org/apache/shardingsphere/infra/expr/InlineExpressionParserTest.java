@@ -130,4 +130,19 @@ public final class InlineExpressionParserTest {
     public void assertEvaluateClosure() {
         assertThat(new InlineExpressionParser("${1+2}").evaluateClosure().call().toString(), is("3"));
     }
+    
+    @Test
+    public void assertEvaluateFunctionWithCompiledExpression() {
+        assertThat(new InlineExpressionParser("t_order_${order_id % 2}").evaluateFunction().apply(Collections.singletonMap("order_id", 3)), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateFunctionWithGroovy() {
+        assertThat(new InlineExpressionParser("t_order_${order_id.intdiv(2)}").evaluateFunction().apply(Collections.singletonMap("order_id", 5)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateFunctionWithUnsupportedValue() {
+        assertThat(new InlineExpressionParser("t_order_${order_id % 2}").evaluateFunction().apply(Collections.singletonMap("order_id", 3.5D)), is("t_order_1.5"));
+    }
 }
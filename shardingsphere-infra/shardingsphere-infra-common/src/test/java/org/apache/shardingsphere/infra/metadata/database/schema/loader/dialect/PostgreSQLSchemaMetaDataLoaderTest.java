@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.loader.dialect;
 
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.SchemaMetaDataLoaderEngine;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.SchemaMetaDataLoaderMaterials;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
@@ -27,20 +29,34 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.Diale
 import org.junit.Test;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class PostgreSQLSchemaMetaDataLoaderTest {
@@ -56,8 +72,12 @@ public final class PostgreSQLSchemaMetaDataLoaderTest {
             + " JOIN information_schema.key_column_usage kc ON kc.table_schema = tc.table_schema AND kc.table_name = tc.table_name AND kc.constraint_name = tc.constraint_name"
             + " WHERE tc.constraint_type = 'PRIMARY KEY' AND kc.ordinal_position IS NOT NULL AND kc.table_schema IN ('public')";
     
+    private static final String PRIMARY_KEY_META_DATA_SQL_WITH_TABLES = PRIMARY_KEY_META_DATA_SQL + " AND tc.table_name IN ('tbl')";
+    
     private static final String BASIC_INDEX_META_DATA_SQL = "SELECT tablename, indexname, schemaname FROM pg_indexes WHERE schemaname IN ('public')";
     
+    private static final String INDEX_META_DATA_SQL_WITH_TABLES = BASIC_INDEX_META_DATA_SQL + " AND tablename IN ('tbl')";
+    
     private static final String LOAD_ALL_ROLE_TABLE_GRANTS_SQL = "SELECT table_name FROM information_schema.role_table_grants";
     
     @Test
@@ -91,14 +111,70 @@ public final class PostgreSQLSchemaMetaDataLoaderTest {
         ResultSet tableResultSet = mockTableMetaDataResultSet();
         when(dataSource.getConnection().prepareStatement(TABLE_META_DATA_SQL_WITH_TABLES).executeQuery()).thenReturn(tableResultSet);
         ResultSet primaryKeyResultSet = mockPrimaryKeyMetaDataResultSet();
-        when(dataSource.getConnection().prepareStatement(PRIMARY_KEY_META_DATA_SQL).executeQuery()).thenReturn(primaryKeyResultSet);
+        when(dataSource.getConnection().prepareStatement(PRIMARY_KEY_META_DATA_SQL_WITH_TABLES).executeQuery()).thenReturn(primaryKeyResultSet);
         ResultSet indexResultSet = mockIndexMetaDataResultSet();
-        when(dataSource.getConnection().prepareStatement(BASIC_INDEX_META_DATA_SQL).executeQuery()).thenReturn(indexResultSet);
+        when(dataSource.getConnection().prepareStatement(INDEX_META_DATA_SQL_WITH_TABLES).executeQuery()).thenReturn(indexResultSet);
         ResultSet roleTableGrantsResultSet = mockRoleTableGrantsResultSet();
         when(dataSource.getConnection().prepareStatement(startsWith(LOAD_ALL_ROLE_TABLE_GRANTS_SQL)).executeQuery()).thenReturn(roleTableGrantsResultSet);
         assertTableMetaDataMap(getDialectTableMetaDataLoader().load(dataSource, Collections.singletonList("tbl"), "sharding_db"));
     }
     
+    @Test
+    public void assertLoadWithTableBatches() throws SQLException {
+        List<String> tables = IntStream.range(0, 1001).mapToObj(each -> "tbl_" + each).collect(Collectors.toList());
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getSchemas()).thenAnswer(invocation -> mockSchemaMetaDataResultSet());
+        when(databaseMetaData.getTypeInfo()).thenAnswer(invocation -> mockTypeInfoResultSet());
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mockPreparedStatement(invocation.getArgument(0)));
+        Map<String, SchemaMetaData> actual = SchemaMetaDataLoaderEngine.load(
+                Collections.singletonList(new SchemaMetaDataLoaderMaterials(tables, dataSource, "public")), DatabaseTypeFactory.getInstance("PostgreSQL"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("public").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList()), is(tables));
+        verify(databaseMetaData).getSchemas();
+        verify(connection).prepareStatement(startsWith(LOAD_ALL_ROLE_TABLE_GRANTS_SQL));
+        verify(connection, times(2)).prepareStatement(startsWith(BASIC_TABLE_META_DATA_SQL));
+    }
+    
+    private PreparedStatement mockPreparedStatement(final String sql) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        if (sql.startsWith(BASIC_TABLE_META_DATA_SQL) || sql.startsWith(LOAD_ALL_ROLE_TABLE_GRANTS_SQL)) {
+            ResultSet resultSet = mockTableNameResultSet(getTableNames(sql));
+            when(result.executeQuery()).thenReturn(resultSet);
+        } else {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(result.executeQuery()).thenReturn(resultSet);
+        }
+        return result;
+    }
+    
+    private List<String> getTableNames(final String sql) {
+        List<String> result = new LinkedList<>();
+        Matcher matcher = Pattern.compile("'(tbl_\\d+)'").matcher(sql);
+        while (matcher.find()) {
+            result.add(matcher.group(1));
+        }
+        return result;
+    }
+    
+    private ResultSet mockTableNameResultSet(final List<String> tableNames) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        Iterator<String> tableNameIterator = tableNames.iterator();
+        AtomicReference<String> currentTableName = new AtomicReference<>();
+        when(result.next()).thenAnswer(invocation -> {
+            currentTableName.set(tableNameIterator.hasNext() ? tableNameIterator.next() : null);
+            return null != currentTableName.get();
+        });
+        when(result.getString("table_name")).thenAnswer(invocation -> currentTableName.get());
+        when(result.getString("column_name")).thenReturn("id");
+        when(result.getString("udt_name")).thenReturn("int4");
+        when(result.getString("table_schema")).thenReturn("public");
+        return result;
+    }
+    
     private ResultSet mockRoleTableGrantsResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true, false);
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.context.kernel;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
@@ -30,6 +31,8 @@ import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -46,13 +49,36 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL,
                                                      final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
-        RouteContext routeContext = route(logicSQL, database, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, database, globalRuleMetaData, props, routeContext);
-        ExecutionContext result = createExecutionContext(logicSQL, database, routeContext, rewriteResult);
+        ExecutionContext result = isExecutionPlanCacheEnabled(logicSQL, database, props)
+                ? generateExecutionContextWithCache(logicSQL, database, globalRuleMetaData, props)
+                : generateExecutionContextWithoutCache(logicSQL, database, globalRuleMetaData, props);
         logSQL(logicSQL, props, result);
         return result;
     }
     
+    private boolean isExecutionPlanCacheEnabled(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
+        return props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE) > 0 && ExecutionPlanCache.isCacheable(logicSQL, database);
+    }
+    
+    private ExecutionContext generateExecutionContextWithCache(final LogicSQL logicSQL,
+                                                               final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        ExecutionPlanCache executionPlanCache = ExecutionPlanCache.getInstance(database, props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE));
+        Optional<ExecutionContext> cached = executionPlanCache.get(logicSQL);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ExecutionContext result = generateExecutionContextWithoutCache(logicSQL, database, globalRuleMetaData, props);
+        executionPlanCache.put(result);
+        return result;
+    }
+    
+    private ExecutionContext generateExecutionContextWithoutCache(final LogicSQL logicSQL,
+                                                                  final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        RouteContext routeContext = route(logicSQL, database, props);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, database, globalRuleMetaData, props, routeContext);
+        return createExecutionContext(logicSQL, database, routeContext, rewriteResult);
+    }
+    
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
         return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(logicSQL, database);
     }
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.transaction.TransactionHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>Route and rewrite results of query are only depended on SQL and parameters, so they can be reused by the same SQL with the same parameters.
+ * Parameter values are part of the cache key because sharding values decide route result, so plans are only hit by exactly repeated SQL and parameters.</p>
+ * 
+ * <p>Cached plans should be cleared by {@link #clear()} or {@link #remove(ShardingSphereDatabase)} when rules, resources, properties or meta data are changed.</p>
+ */
+public final class ExecutionPlanCache {
+    
+    private static final Cache<ShardingSphereDatabase, ExecutionPlanCache> INSTANCES = Caffeine.newBuilder().weakKeys().build();
+    
+    @Getter
+    private final int maximumSize;
+    
+    private final Cache<ExecutionPlanCacheKey, ExecutionContext> executionPlans;
+    
+    public ExecutionPlanCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        executionPlans = Caffeine.newBuilder().softValues().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get execution plan cache of database.
+     * 
+     * <p>Cache will be rebuilt if maximum size is different from the existed one, which means the property has been altered.</p>
+     * 
+     * @param database database
+     * @param maximumSize maximum size of cached execution plans
+     * @return execution plan cache
+     */
+    public static ExecutionPlanCache getInstance(final ShardingSphereDatabase database, final int maximumSize) {
+        ExecutionPlanCache result = INSTANCES.get(database, key -> new ExecutionPlanCache(maximumSize));
+        if (maximumSize != result.maximumSize) {
+            result = new ExecutionPlanCache(maximumSize);
+            INSTANCES.put(database, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Find execution plan cache of database.
+     * 
+     * @param database database
+     * @return execution plan cache
+     */
+    public static Optional<ExecutionPlanCache> find(final ShardingSphereDatabase database) {
+        return Optional.ofNullable(INSTANCES.getIfPresent(database));
+    }
+    
+    /**
+     * Remove execution plan cache of database.
+     * 
+     * @param database database
+     */
+    public static void remove(final ShardingSphereDatabase database) {
+        INSTANCES.invalidate(database);
+    }
+    
+    /**
+     * Clear execution plan caches of all databases.
+     */
+    public static void clear() {
+        INSTANCES.invalidateAll();
+    }
+    
+    /**
+     * Judge whether execution plan of logic SQL is cacheable.
+     * 
+     * @param logicSQL logic SQL
+     * @param database database
+     * @return is cacheable or not
+     */
+    public static boolean isCacheable(final LogicSQL logicSQL, final ShardingSphereDatabase database) {
+        if (!(logicSQL.getSqlStatementContext() instanceof SelectStatementContext) || HintManager.isInstantiated() || TransactionHolder.isTransaction()) {
+            return false;
+        }
+        if (!database.getRuleMetaData().findRules(DataSourceContainedRule.class).isEmpty()) {
+            return false;
+        }
+        return logicSQL.getParameters().stream().allMatch(ExecutionPlanCache::isImmutableParameter);
+    }
+    
+    private static boolean isImmutableParameter(final Object parameter) {
+        return null == parameter || parameter instanceof Number || parameter instanceof String || parameter instanceof Boolean || parameter instanceof Character;
+    }
+    
+    /**
+     * Get cached execution context.
+     * 
+     * @param logicSQL logic SQL
+     * @return cached execution context which bound to logic SQL, execution units and route context are copied from cached one
+     */
+    public Optional<ExecutionContext> get(final LogicSQL logicSQL) {
+        ExecutionContext cached = executionPlans.getIfPresent(new ExecutionPlanCacheKey(logicSQL.getSql(), logicSQL.getParameters()));
+        return null == cached ? Optional.empty() : Optional.of(new ExecutionContext(logicSQL, copyExecutionUnits(cached.getExecutionUnits()), copyRouteContext(cached.getRouteContext())));
+    }
+    
+    private Collection<ExecutionUnit> copyExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
+        return executionUnits.stream().map(each -> new ExecutionUnit(each.getDataSourceName(),
+                new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(each.getSqlUnit().getParameters()), each.getSqlUnit().getTableRouteMappers())))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
+    private RouteContext copyRouteContext(final RouteContext routeContext) {
+        RouteContext result = new RouteContext();
+        routeContext.getOriginalDataNodes().forEach(each -> result.getOriginalDataNodes().add(new ArrayList<>(each)));
+        routeContext.getRouteUnits().forEach(each -> result.getRouteUnits().add(new RouteUnit(each.getDataSourceMapper(), new LinkedHashSet<>(each.getTableMappers()))));
+        result.getRouteStageContexts().putAll(routeContext.getRouteStageContexts());
+        result.setFederated(routeContext.isFederated());
+        return result;
+    }
+    
+    /**
+     * Put execution context.
+     * 
+     * @param executionContext execution context to be cached
+     */
+    public void put(final ExecutionContext executionContext) {
+        LogicSQL logicSQL = executionContext.getLogicSQL();
+        executionPlans.put(new ExecutionPlanCacheKey(logicSQL.getSql(), logicSQL.getParameters()), executionContext);
+    }
+    
+    /**
+     * Get hit count.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return executionPlans.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     * 
+     * @return miss count
+     */
+    public long getMissCount() {
+        return executionPlans.stats().missCount();
+    }
+    
+    /**
+     * Get eviction count.
+     * 
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return executionPlans.stats().evictionCount();
+    }
+    
+    /**
+     * Get approximate size of cached execution plans.
+     * 
+     * @return approximate size
+     */
+    public long getSize() {
+        return executionPlans.estimatedSize();
+    }
+}
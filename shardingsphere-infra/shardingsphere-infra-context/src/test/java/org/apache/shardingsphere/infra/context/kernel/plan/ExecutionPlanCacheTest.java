@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutionPlanCacheTest {
+    
+    @Test
+    public void assertGetAfterPut() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(16);
+        LogicSQL logicSQL = new LogicSQL(mock(SelectStatementContext.class), "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1));
+        assertFalse(executionPlanCache.get(logicSQL).isPresent());
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_1"))));
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_1 WHERE order_id = ?", Collections.singletonList(1)));
+        executionPlanCache.put(new ExecutionContext(logicSQL, Collections.singletonList(executionUnit), routeContext));
+        LogicSQL anotherLogicSQL = new LogicSQL(mock(SelectStatementContext.class), "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1));
+        Optional<ExecutionContext> actual = executionPlanCache.get(anotherLogicSQL);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicSQL(), is(anotherLogicSQL));
+        assertThat(actual.get().getExecutionUnits().iterator().next(), is(executionUnit));
+        assertThat(actual.get().getRouteContext(), not(routeContext));
+        assertThat(actual.get().getRouteContext().getRouteUnits(), is(routeContext.getRouteUnits()));
+        assertThat(executionPlanCache.getHitCount(), is(1L));
+        assertThat(executionPlanCache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithDifferentParametersMissed() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(16);
+        LogicSQL logicSQL = new LogicSQL(mock(SelectStatementContext.class), "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1));
+        executionPlanCache.put(new ExecutionContext(logicSQL, Collections.emptyList(), new RouteContext()));
+        assertFalse(executionPlanCache.get(new LogicSQL(mock(SelectStatementContext.class), "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(2))).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithCopiedExecutionUnits() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(16);
+        LogicSQL logicSQL = new LogicSQL(mock(SelectStatementContext.class), "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1));
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_1 WHERE order_id = ?", new ArrayList<>(Collections.singletonList(1))));
+        executionPlanCache.put(new ExecutionContext(logicSQL, Collections.singletonList(executionUnit), new RouteContext()));
+        Optional<ExecutionContext> actual = executionPlanCache.get(logicSQL);
+        assertTrue(actual.isPresent());
+        actual.get().getExecutionUnits().iterator().next().getSqlUnit().getParameters().clear();
+        assertThat(executionUnit.getSqlUnit().getParameters(), is(Collections.<Object>singletonList(1)));
+        assertThat(executionPlanCache.get(logicSQL).get().getExecutionUnits().iterator().next().getSqlUnit().getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertClear() {
+        ShardingSphereDatabase database = mockDatabase(new ShardingSphereRuleMetaData(Collections.emptyList()));
+        ExecutionPlanCache.getInstance(database, 16);
+        ExecutionPlanCache.clear();
+        assertFalse(ExecutionPlanCache.find(database).isPresent());
+    }
+    
+    @Test
+    public void assertIsCacheable() {
+        ShardingSphereDatabase database = mockDatabase(new ShardingSphereRuleMetaData(Collections.emptyList()));
+        assertTrue(ExecutionPlanCache.isCacheable(new LogicSQL(mock(SelectStatementContext.class), "SELECT 1", Arrays.<Object>asList(1, "foo", null)), database));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWithInsertStatement() {
+        ShardingSphereDatabase database = mockDatabase(new ShardingSphereRuleMetaData(Collections.emptyList()));
+        assertFalse(ExecutionPlanCache.isCacheable(new LogicSQL(mock(InsertStatementContext.class), "INSERT INTO t_order VALUES (?)", Collections.singletonList(1)), database));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWithMutableParameter() {
+        ShardingSphereDatabase database = mockDatabase(new ShardingSphereRuleMetaData(Collections.emptyList()));
+        assertFalse(ExecutionPlanCache.isCacheable(new LogicSQL(mock(SelectStatementContext.class), "SELECT ?", Collections.singletonList(new byte[]{1})), database));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWithDataSourceContainedRule() {
+        ShardingSphereDatabase database = mockDatabase(new ShardingSphereRuleMetaData(Collections.<ShardingSphereRule>singleton(mock(DataSourceContainedRule.class))));
+        assertFalse(ExecutionPlanCache.isCacheable(new LogicSQL(mock(SelectStatementContext.class), "SELECT 1", Collections.emptyList()), database));
+    }
+    
+    @Test
+    public void assertGetInstanceRebuiltWithAlteredMaximumSize() {
+        ShardingSphereDatabase database = mockDatabase(new ShardingSphereRuleMetaData(Collections.emptyList()));
+        ExecutionPlanCache executionPlanCache = ExecutionPlanCache.getInstance(database, 16);
+        assertThat(ExecutionPlanCache.getInstance(database, 16), is(executionPlanCache));
+        ExecutionPlanCache actual = ExecutionPlanCache.getInstance(database, 32);
+        assertThat(actual, not(executionPlanCache));
+        assertThat(actual.getMaximumSize(), is(32));
+        assertThat(ExecutionPlanCache.find(database), is(Optional.of(actual)));
+        ExecutionPlanCache.remove(database);
+        assertFalse(ExecutionPlanCache.find(database).isPresent());
+    }
+    
+    @Test
+    public void assertGetStatistics() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(16);
+        LogicSQL logicSQL = new LogicSQL(mock(SelectStatementContext.class), "SELECT 1", Collections.emptyList());
+        assertFalse(executionPlanCache.get(logicSQL).isPresent());
+        executionPlanCache.put(new ExecutionContext(logicSQL, Collections.emptyList(), new RouteContext()));
+        executionPlanCache.put(new ExecutionContext(new LogicSQL(mock(SelectStatementContext.class), "SELECT 2", Collections.emptyList()), Collections.emptyList(), new RouteContext()));
+        assertTrue(executionPlanCache.get(logicSQL).isPresent());
+        assertThat(executionPlanCache.getHitCount(), is(1L));
+        assertThat(executionPlanCache.getMissCount(), is(1L));
+        assertThat(executionPlanCache.getEvictionCount(), is(0L));
+        assertThat(executionPlanCache.getSize(), is(2L));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final ShardingSphereRuleMetaData ruleMetaData) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getRuleMetaData()).thenReturn(ruleMetaData);
+        return result;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -43,12 +44,18 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final String DEFAULT_NAME_FORMAT = "%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
     private ExecutorEngine(final int executorSize) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final ExecutorServiceType executorServiceType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, DEFAULT_NAME_FORMAT, executorServiceType);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -59,6 +66,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and executor service type.
+     *
+     * @param executorSize executor size
+     * @param executorServiceType executor service type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final ExecutorServiceType executorServiceType) {
+        return new ExecutorEngine(executorSize, executorServiceType);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
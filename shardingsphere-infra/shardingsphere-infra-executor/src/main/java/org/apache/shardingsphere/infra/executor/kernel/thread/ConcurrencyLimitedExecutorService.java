@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency limited executor service.
+ * 
+ * <p>Submitting thread will be blocked until running tasks are less than max concurrency.</p>
+ */
+public final class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+    
+    private final ExecutorService delegate;
+    
+    private final Semaphore permits;
+    
+    public ConcurrencyLimitedExecutorService(final ExecutorService delegate, final int maxConcurrency) {
+        this.delegate = delegate;
+        permits = new Semaphore(maxConcurrency);
+    }
+    
+    @Override
+    public void execute(final Runnable command) {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(ex);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+    
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
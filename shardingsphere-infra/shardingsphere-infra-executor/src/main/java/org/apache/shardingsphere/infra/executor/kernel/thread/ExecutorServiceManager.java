@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -41,7 +42,11 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, ExecutorServiceType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorServiceType executorServiceType) {
+        executorService = ExecutorServiceType.VIRTUAL == executorServiceType ? getVirtualExecutorService(executorSize, nameFormat) : getExecutorService(executorSize, nameFormat);
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -49,6 +54,19 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualExecutorService(final int executorSize, final String nameFormat) {
+        ExecutorService result = newVirtualThreadPerTaskExecutor().orElseGet(() -> Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build(nameFormat)));
+        return 0 == executorSize ? result : new ConcurrencyLimitedExecutorService(result, executorSize);
+    }
+    
+    private Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import java.util.Locale;
+
+/**
+ * Executor service type.
+ */
+public enum ExecutorServiceType {
+    
+    /**
+     * Execute tasks on platform threads of thread pool.
+     */
+    PLATFORM,
+    
+    /**
+     * Execute tasks on virtual threads, or on platform threads of cached thread pool if virtual thread is unsupported.
+     */
+    VIRTUAL;
+    
+    /**
+     * Get executor service type by name.
+     * 
+     * @param name executor service type name
+     * @return executor service type
+     */
+    public static ExecutorServiceType valueFrom(final String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+}
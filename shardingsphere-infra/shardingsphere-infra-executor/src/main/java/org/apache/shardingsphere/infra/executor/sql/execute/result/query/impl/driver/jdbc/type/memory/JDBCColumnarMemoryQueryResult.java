@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar.ColumnVectorFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectJDBCRowsLoaderFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.JDBCRowsLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.MemoryQueryResult;
+
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * JDBC query result for columnar memory loading.
+ * 
+ * <p>Values are stored in column vectors instead of rows, primitive values are stored without boxing.</p>
+ */
+public final class JDBCColumnarMemoryQueryResult implements MemoryQueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final ColumnVector[] columnVectors;
+    
+    private final int totalRowCount;
+    
+    private int currentRowIndex = -1;
+    
+    public JDBCColumnarMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        metaData = new JDBCQueryResultMetaData(resultSetMetaData);
+        columnVectors = createColumnVectors(resultSetMetaData, DialectJDBCRowsLoaderFactory.getInstance(databaseType));
+        totalRowCount = load(resultSet);
+    }
+    
+    private ColumnVector[] createColumnVectors(final ResultSetMetaData resultSetMetaData, final JDBCRowsLoader rowsLoader) throws SQLException {
+        ColumnVector[] result = new ColumnVector[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ColumnVectorFactory.newInstance(resultSetMetaData, i + 1, rowsLoader);
+        }
+        return result;
+    }
+    
+    private int load(final ResultSet resultSet) throws SQLException {
+        int result = 0;
+        while (resultSet.next()) {
+            for (ColumnVector each : columnVectors) {
+                each.load(resultSet);
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    @Override
+    public long getRowCount() {
+        return Math.max(totalRowCount - currentRowIndex - 1, 0);
+    }
+    
+    @Override
+    public boolean next() {
+        if (currentRowIndex < totalRowCount) {
+            currentRowIndex++;
+        }
+        return currentRowIndex < totalRowCount;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return columnVectors[columnIndex - 1].getValue(currentRowIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return columnVectors[columnIndex - 1].getValue(currentRowIndex);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return MemoryQueryResult.serialize(columnVectors[columnIndex - 1].getValue(currentRowIndex));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return currentRowIndex < 0 || currentRowIndex >= totalRowCount;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.JDBCRowsLoader;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Column vector factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnVectorFactory {
+    
+    static final int INITIAL_CAPACITY = 16;
+    
+    /**
+     * Create new instance of column vector.
+     * 
+     * <p>Value types of column vector are same as {@link JDBCRowsLoader}.</p>
+     *
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @param rowsLoader rows loader to load values which have no primitive column vector
+     * @return new instance of column vector
+     * @throws SQLException SQL exception
+     */
+    public static ColumnVector newInstance(final ResultSetMetaData metaData, final int columnIndex, final JDBCRowsLoader rowsLoader) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return new BooleanColumnVector(columnIndex);
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntegerColumnVector(columnIndex);
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntegerColumnVector(columnIndex) : new LongColumnVector(columnIndex);
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongColumnVector(columnIndex) : new ObjectColumnVector(columnIndex, rowsLoader);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnVector(columnIndex);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new DictionaryStringColumnVector(columnIndex);
+            default:
+                return new ObjectColumnVector(columnIndex, rowsLoader);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoded string column vector.
+ * 
+ * <p>Equal strings share one instance, the dictionary stops growing when it reaches max size.</p>
+ */
+@RequiredArgsConstructor
+public final class DictionaryStringColumnVector implements ColumnVector {
+    
+    private static final int MAX_DICTIONARY_SIZE = 4096;
+    
+    private final int columnIndex;
+    
+    private final Map<String, String> dictionary = new HashMap<>();
+    
+    private String[] values = new String[ColumnVectorFactory.INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public void load(final ResultSet resultSet) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = null == value || resultSet.wasNull() ? null : encode(value);
+    }
+    
+    private String encode(final String value) {
+        String result = dictionary.get(value);
+        if (null != result) {
+            return result;
+        }
+        if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+            dictionary.put(value, value);
+        }
+        return value;
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.columnar;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Integer column vector.
+ */
+@RequiredArgsConstructor
+public final class IntegerColumnVector implements ColumnVector {
+    
+    private final int columnIndex;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int[] values = new int[ColumnVectorFactory.INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public void load(final ResultSet resultSet) throws SQLException {
+        int value = resultSet.getInt(columnIndex);
+        if (resultSet.wasNull()) {
+            nulls.set(size);
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : values[rowIndex];
+    }
+}
@@ -40,14 +40,19 @@ public abstract class AbstractJDBCRowsLoader implements JDBCRowsLoader {
         while (resultSet.next()) {
             List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+                rowData.add(loadValue(resultSet, columnIndex));
             }
             result.add(new MemoryQueryResultDataRow(rowData));
         }
         return result;
     }
     
+    @Override
+    public Object loadValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        Object result = loadRowValue(resultSet, columnIndex);
+        return resultSet.wasNull() ? null : result;
+    }
+    
     @SuppressWarnings("ReturnOfNull")
     private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
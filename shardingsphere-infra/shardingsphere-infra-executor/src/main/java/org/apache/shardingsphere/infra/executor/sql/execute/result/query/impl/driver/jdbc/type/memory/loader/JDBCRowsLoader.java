@@ -41,4 +41,14 @@ public interface JDBCRowsLoader extends TypedSPI, RequiredSPI {
      * @throws SQLException SQL exception
      */
     Collection<MemoryQueryResultDataRow> load(int columnCount, ResultSet resultSet) throws SQLException;
+    
+    /**
+     * Load value of current row.
+     *
+     * @param resultSet result set of JDBC
+     * @param columnIndex column index
+     * @return loaded value, null if value is SQL NULL
+     * @throws SQLException SQL exception
+     */
+    Object loadValue(ResultSet resultSet, int columnIndex) throws SQLException;
 }
@@ -18,16 +18,10 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
 
 import lombok.Getter;
-import lombok.SneakyThrows;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectOutputStream;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Iterator;
@@ -35,7 +29,7 @@ import java.util.Iterator;
 /**
  * Abstract memory query result.
  */
-public abstract class AbstractMemoryQueryResult implements QueryResult {
+public abstract class AbstractMemoryQueryResult implements MemoryQueryResult {
     
     @Getter
     private final QueryResultMetaData metaData;
@@ -76,17 +70,7 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getValue().get(columnIndex - 1));
-    }
-    
-    @SneakyThrows(IOException.class)
-    private InputStream getInputStream(final Object value) {
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
-        objectOutputStream.writeObject(value);
-        objectOutputStream.flush();
-        objectOutputStream.close();
-        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        return MemoryQueryResult.serialize(currentRow.getValue().get(columnIndex - 1));
     }
     
     @Override
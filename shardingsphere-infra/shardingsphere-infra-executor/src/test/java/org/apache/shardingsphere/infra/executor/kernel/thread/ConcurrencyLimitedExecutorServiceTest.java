@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConcurrencyLimitedExecutorServiceTest {
+    
+    @Test
+    public void assertExecuteWithMaxConcurrency() throws InterruptedException {
+        ExecutorService executorService = new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            executorService.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep();
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 2);
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+    }
+    
+    private void sleep() {
+        try {
+            Thread.sleep(10L);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Test
+    public void assertSubmitWithVirtualExecutorServiceType() throws InterruptedException, ExecutionException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(2, "%d", ExecutorServiceType.valueFrom("virtual"));
+        assertThat(executorServiceManager.getExecutorService().submit(() -> 1).get(), is(1));
+        executorServiceManager.close();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCColumnarMemoryQueryResultTest {
+    
+    private final DatabaseType databaseType = new MySQLDatabaseType();
+    
+    @Test
+    public void assertGetValueByPrimitiveColumns() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.BOOLEAN);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2);
+        when(resultSet.getLong(2)).thenReturn(10L, 20L);
+        when(resultSet.getDouble(3)).thenReturn(1.5D, 2.5D);
+        when(resultSet.getBoolean(4)).thenReturn(true, false);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertThat(actual.getRowCount(), is(2L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+        assertThat(actual.getValue(2, long.class), is(10L));
+        assertThat(actual.getValue(3, double.class), is(1.5D));
+        assertThat(actual.getValue(4, boolean.class), is(true));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(2));
+        assertThat(actual.getValue(2, long.class), is(20L));
+        assertThat(actual.getValue(3, double.class), is(2.5D));
+        assertThat(actual.getValue(4, boolean.class), is(false));
+        assertFalse(actual.next());
+        assertThat(actual.getRowCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetValueByNull() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.INTEGER, Types.VARCHAR);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, int.class));
+        assertNull(actual.getValue(2, String.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByDictionaryString() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.VARCHAR);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn(new String("foo"), new String("foo"));
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        Object first = actual.getValue(1, String.class);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), sameInstance(first));
+    }
+    
+    @Test
+    public void assertGetValueByObjectColumn() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.DECIMAL);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1"));
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, BigDecimal.class), is(new BigDecimal("1")));
+    }
+    
+    @Test
+    public void assertWasNull() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.INTEGER);
+        when(resultSet.next()).thenReturn(true, false);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        actual.next();
+        assertFalse(actual.wasNull());
+        actual.next();
+        assertTrue(actual.wasNull());
+    }
+    
+    private ResultSet mockResultSet(final int... columnTypes) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(metaData.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+            when(metaData.isSigned(i + 1)).thenReturn(true);
+        }
+        when(result.getMetaData()).thenReturn(metaData);
+        return result;
+    }
+}
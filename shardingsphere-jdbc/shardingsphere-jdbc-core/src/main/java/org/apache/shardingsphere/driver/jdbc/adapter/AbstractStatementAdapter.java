@@ -190,6 +190,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
             }
         } finally {
             getRoutedStatements().clear();
+            closeCurrentResultSet();
         }
     }
     
@@ -209,4 +210,6 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     protected abstract DriverExecutor getExecutor();
     
     protected abstract StatementManager getStatementManager();
+    
+    protected abstract void closeCurrentResultSet() throws SQLException;
 }
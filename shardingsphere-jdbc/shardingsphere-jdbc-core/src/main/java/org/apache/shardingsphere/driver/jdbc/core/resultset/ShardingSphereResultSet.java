@@ -425,4 +425,9 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         }
         return columnIndex;
     }
+    
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
 }
@@ -636,4 +636,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public Collection<PreparedStatement> getRoutedStatements() {
         return statements;
     }
+    
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+            currentResultSet = null;
+        }
+    }
 }
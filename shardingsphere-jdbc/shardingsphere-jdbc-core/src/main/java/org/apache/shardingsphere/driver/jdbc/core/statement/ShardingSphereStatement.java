@@ -598,4 +598,12 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
                 ? ((InsertStatementContext) executionContext.getSqlStatementContext()).getGeneratedKeyContext()
                 : Optional.empty();
     }
+    
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+            currentResultSet = null;
+        }
+    }
 }
@@ -50,6 +50,8 @@ public class DumperConfiguration {
     
     private TableNameSchemaNameMapping tableNameSchemaNameMapping;
     
+    private int incrementalDecodeThread;
+    
     /**
      * Get logic table name.
      *
@@ -43,6 +43,10 @@ public final class InventoryDumperConfiguration extends DumperConfiguration {
     
     private int batchSize = 1000;
     
+    private boolean streamingQuery;
+    
+    private int streamingQueryMaxRows = 100000;
+    
     private JobRateLimitAlgorithm rateLimitAlgorithm;
     
     public InventoryDumperConfiguration(final DumperConfiguration dumperConfig) {
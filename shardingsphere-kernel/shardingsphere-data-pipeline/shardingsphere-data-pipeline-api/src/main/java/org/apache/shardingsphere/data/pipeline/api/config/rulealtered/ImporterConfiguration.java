@@ -24,6 +24,7 @@ import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -52,6 +53,8 @@ public final class ImporterConfiguration {
     
     private final int retryTimes;
     
+    private JobRateLimitAlgorithm rateLimitAlgorithm;
+    
     /**
      * Get logic table names.
      *
@@ -33,6 +33,17 @@ public interface PipelineChannel {
      */
     void pushRecord(Record dataRecord);
     
+    /**
+     * Push {@code Record} list into channel.
+     *
+     * @param records records
+     */
+    default void pushRecords(List<Record> records) {
+        for (Record each : records) {
+            pushRecord(each);
+        }
+    }
+    
     /**
      * Fetch {@code Record} list from channel.
      * It might be blocked at most timeout seconds if available records count doesn't reach batch size.
@@ -21,35 +21,63 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Data record.
+ *
+ * <p>Columns are stored columnar, column names could be shared by records of the same table, and {@link Column} is only created on demand.</p>
  */
-@Getter
-@Setter
-@EqualsAndHashCode(of = {"tableName", "uniqueKeyValue"}, callSuper = false)
-@ToString
 public final class DataRecord extends Record {
     
-    private final List<Column> columns;
+    private static final byte UPDATED_FLAG = 1;
+    
+    private static final byte UNIQUE_KEY_FLAG = 1 << 1;
+    
+    private List<String> columnNames;
+    
+    private boolean columnNamesShared;
+    
+    private Object[] values;
     
-    private final List<Object> uniqueKeyValue = new LinkedList<>();
+    private Object[] oldValues;
     
-    private final List<Object> oldUniqueKeyValues = new ArrayList<>();
+    private byte[] columnFlags;
     
+    private int columnCount;
+    
+    @Getter
+    @Setter
     private String type;
     
+    @Getter
+    @Setter
     private String tableName;
     
     public DataRecord(final IngestPosition<?> position, final int columnCount) {
         super(position);
-        columns = new ArrayList<>(columnCount);
+        columnNames = new ArrayList<>(columnCount);
+        values = new Object[columnCount];
+        columnFlags = new byte[columnCount];
+    }
+    
+    /**
+     * Create data record which references column names shared by records of the same table.
+     *
+     * @param position position
+     * @param columnNames column names, it is copied before modified
+     */
+    public DataRecord(final IngestPosition<?> position, final List<String> columnNames) {
+        super(position);
+        this.columnNames = columnNames;
+        columnNamesShared = true;
+        values = new Object[columnNames.size()];
+        columnFlags = new byte[columnNames.size()];
     }
     
     /**
@@ -58,11 +86,53 @@ public final class DataRecord extends Record {
      * @param data column
      */
     public void addColumn(final Column data) {
-        columns.add(data);
-        if (data.isUniqueKey()) {
-            uniqueKeyValue.add(data.getValue());
-            oldUniqueKeyValues.add(data.getOldValue());
+        addColumn(data.getName(), data.getOldValue(), data.getValue(), data.isUpdated(), data.isUniqueKey());
+    }
+    
+    /**
+     * Add a column to record without creating column.
+     *
+     * @param name column name
+     * @param oldValue old value, available only when the unique key column is updated
+     * @param value value
+     * @param updated whether column is updated
+     * @param uniqueKey whether column is unique key
+     */
+    public void addColumn(final String name, final Object oldValue, final Object value, final boolean updated, final boolean uniqueKey) {
+        if (columnCount == values.length) {
+            int capacity = Math.max(columnCount * 2, 4);
+            values = Arrays.copyOf(values, capacity);
+            columnFlags = Arrays.copyOf(columnFlags, capacity);
+            if (null != oldValues) {
+                oldValues = Arrays.copyOf(oldValues, capacity);
+            }
+        }
+        addColumnName(name);
+        values[columnCount] = value;
+        if (null != oldValue) {
+            if (null == oldValues) {
+                oldValues = new Object[values.length];
+            }
+            oldValues[columnCount] = oldValue;
+        }
+        columnFlags[columnCount] = (byte) ((updated ? UPDATED_FLAG : 0) | (uniqueKey ? UNIQUE_KEY_FLAG : 0));
+        columnCount++;
+    }
+    
+    private void addColumnName(final String name) {
+        if (!columnNamesShared) {
+            columnNames.add(name);
+            return;
+        }
+        if (columnCount < columnNames.size()) {
+            String sharedName = columnNames.get(columnCount);
+            if (sharedName == name || sharedName.equals(name)) {
+                return;
+            }
         }
+        columnNames = new ArrayList<>(columnNames.subList(0, columnCount));
+        columnNamesShared = false;
+        columnNames.add(name);
     }
     
     /**
@@ -71,7 +141,80 @@ public final class DataRecord extends Record {
      * @return count
      */
     public int getColumnCount() {
-        return columns.size();
+        return columnCount;
+    }
+    
+    /**
+     * Get column names, which could be shared by other records.
+     *
+     * @return column names
+     */
+    public List<String> getColumnNames() {
+        if (columnNamesShared && columnCount == columnNames.size()) {
+            return columnNames;
+        }
+        return Collections.unmodifiableList(columnCount == columnNames.size() ? columnNames : columnNames.subList(0, columnCount));
+    }
+    
+    /**
+     * Get column name by index.
+     *
+     * @param index of column
+     * @return column name
+     */
+    public String getColumnName(final int index) {
+        checkIndex(index);
+        return columnNames.get(index);
+    }
+    
+    /**
+     * Get column value by index.
+     *
+     * @param index of column
+     * @return column value
+     */
+    public Object getColumnValue(final int index) {
+        checkIndex(index);
+        return values[index];
+    }
+    
+    /**
+     * Get column old value by index.
+     *
+     * @param index of column
+     * @return column old value
+     */
+    public Object getColumnOldValue(final int index) {
+        checkIndex(index);
+        return null == oldValues ? null : oldValues[index];
+    }
+    
+    /**
+     * Judge whether column is updated.
+     *
+     * @param index of column
+     * @return column is updated or not
+     */
+    public boolean isColumnUpdated(final int index) {
+        checkIndex(index);
+        return 0 != (columnFlags[index] & UPDATED_FLAG);
+    }
+    
+    /**
+     * Judge whether column is unique key.
+     *
+     * @param index of column
+     * @return column is unique key or not
+     */
+    public boolean isColumnUniqueKey(final int index) {
+        checkIndex(index);
+        return 0 != (columnFlags[index] & UNIQUE_KEY_FLAG);
+    }
+    
+    private void checkIndex(final int index) {
+        if (index >= columnCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + columnCount);
+        }
     }
     
     /**
@@ -81,7 +224,20 @@ public final class DataRecord extends Record {
      * @return column
      */
     public Column getColumn(final int index) {
-        return columns.get(index);
+        return new Column(getColumnName(index), getColumnOldValue(index), getColumnValue(index), isColumnUpdated(index), isColumnUniqueKey(index));
+    }
+    
+    /**
+     * Get columns.
+     *
+     * @return columns
+     */
+    public List<Column> getColumns() {
+        List<Column> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(getColumn(i));
+        }
+        return result;
     }
     
     /**
@@ -90,7 +246,7 @@ public final class DataRecord extends Record {
      * @return key
      */
     public Key getKey() {
-        return new Key(tableName, uniqueKeyValue);
+        return new Key(tableName, getUniqueKeyValues(values));
     }
     
     /**
@@ -99,7 +255,32 @@ public final class DataRecord extends Record {
      * @return key
      */
     public Key getOldKey() {
-        return new Key(tableName, oldUniqueKeyValues);
+        return new Key(tableName, getUniqueKeyValues(oldValues));
+    }
+    
+    private List<Object> getUniqueKeyValues(final Object[] columnValues) {
+        List<Object> result = new ArrayList<>(1);
+        for (int i = 0; i < columnCount; i++) {
+            if (0 != (columnFlags[i] & UNIQUE_KEY_FLAG)) {
+                result.add(null == columnValues ? null : columnValues[i]);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof DataRecord && getKey().equals(((DataRecord) obj).getKey());
+    }
+    
+    @Override
+    public int hashCode() {
+        return getKey().hashCode();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("DataRecord(type=%s, tableName=%s, columns=%s)", type, tableName, getColumns());
     }
     
     @EqualsAndHashCode
@@ -49,6 +49,10 @@ public final class JobProgress {
     
     private Map<String, IncrementalTaskProgress> incrementalTaskProgressMap;
     
+    private Double inputRate;
+    
+    private Double outputRate;
+    
     /**
      * Get incremental position.
      *
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.spi.ratelimit;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 
+import java.util.Optional;
+
 /**
  * Job rate limit algorithm.
  */
@@ -32,4 +34,32 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm {
      * @param data delta value for how much changed if type is INSERT, DELETE, UPDATE and SELECT; null value for SYSTEM_LOAD and CPU_USAGE type
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Feedback elapsed time of operation, it could be used to adjust rate and batch size.
+     *
+     * @param type job operation type
+     * @param elapsedMillis elapsed milliseconds of operation
+     */
+    default void feedback(JobOperationType type, long elapsedMillis) {
+    }
+    
+    /**
+     * Get batch size.
+     *
+     * @param batchSize configured batch size
+     * @return batch size to be used currently
+     */
+    default int getBatchSize(int batchSize) {
+        return batchSize;
+    }
+    
+    /**
+     * Get current rate.
+     *
+     * @return permits per second currently, empty if it's not rate based
+     */
+    default Optional<Double> getCurrentRate() {
+        return Optional.empty();
+    }
 }
@@ -55,6 +55,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildInventoryDumpSQL(String schemaName, String tableName, String uniqueKey, int uniqueKeyDataType, boolean firstQuery);
     
+    /**
+     * Build inventory dump SQL without end value of unique key.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstQuery whether it's the first time query
+     * @return inventory dump SQL
+     */
+    String buildUnboundedInventoryDumpSQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
+    
     /**
      * Build insert SQL.
      *
@@ -65,6 +76,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildInsertSQL(String schemaName, DataRecord dataRecord, Map<LogicTableName, Set<String>> shardingColumnsMap);
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record, used as template of every row
+     * @param rowCount row count of VALUES
+     * @param shardingColumnsMap sharding columns map
+     * @return multi-row insert SQL
+     */
+    String buildMultiRowInsertSQL(String schemaName, DataRecord dataRecord, int rowCount, Map<LogicTableName, Set<String>> shardingColumnsMap);
+    
     /**
      * Build update SQL.
      *
@@ -143,6 +165,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build split by string primary key range SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param firstQuery whether it's the first time query
+     * @return split SQL
+     */
+    String buildSplitByStringPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey, boolean firstQuery);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.node.PipelineMetaDa
 import org.apache.shardingsphere.data.pipeline.core.task.IncrementalTask;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
@@ -64,6 +65,8 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         jobProgress.setSourceDatabaseType(jobContext.getJobConfig().getSourceDatabaseType());
         jobProgress.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(jobContext));
         jobProgress.setInventoryTaskProgressMap(getInventoryTaskProgressMap(jobContext));
+        jobProgress.setInputRate(getCurrentRate(jobContext.getRuleAlteredContext().getInputRateLimitAlgorithm()));
+        jobProgress.setOutputRate(getCurrentRate(jobContext.getRuleAlteredContext().getOutputRateLimitAlgorithm()));
         String value = YamlEngine.marshal(JOB_PROGRESS_YAML_SWAPPER.swapToYaml(jobProgress));
         repository.persist(PipelineMetaDataNode.getScalingJobOffsetPath(jobContext.getJobId(), jobContext.getShardingItem()), value);
     }
@@ -76,6 +79,10 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         return result;
     }
     
+    private Double getCurrentRate(final JobRateLimitAlgorithm rateLimitAlgorithm) {
+        return null == rateLimitAlgorithm ? null : rateLimitAlgorithm.getCurrentRate().orElse(null);
+    }
+    
     private Map<String, InventoryTaskProgress> getInventoryTaskProgressMap(final RuleAlteredJobContext jobContext) {
         Map<String, InventoryTaskProgress> result = new HashMap<>(jobContext.getInventoryTasks().size(), 1);
         for (InventoryTask each : jobContext.getInventoryTasks()) {
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
 import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyContentCheckResult;
@@ -65,6 +66,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * Data consistency checker.
  */
+@Slf4j
 public final class DataConsistencyChecker {
     
     // TODO remove jobConfig for common usage
@@ -187,6 +189,7 @@ public final class DataConsistencyChecker {
                     Object targetCalculatedResult = targetFuture.get();
                     contentMatched = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
                     if (!contentMatched) {
+                        log.warn("content not matched, table={}, sourceCalculatedResult={}, targetCalculatedResult={}", each, sourceCalculatedResult, targetCalculatedResult);
                         break;
                     }
                 }
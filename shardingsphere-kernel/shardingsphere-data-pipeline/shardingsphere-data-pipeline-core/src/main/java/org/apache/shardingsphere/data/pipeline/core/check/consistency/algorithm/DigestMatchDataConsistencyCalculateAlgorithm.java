@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Digest match data consistency calculate algorithm.
+ *
+ * <p>Records are read in unique key order like {@code DATA_MATCH}, but only the digest of every chunk is kept and compared, so a mismatch is reported as a unique key range.
+ * The digest is SHA-256 of a type tagged and length prefixed encoding of every column value.</p>
+ */
+@Slf4j
+public final class DigestMatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = DatabaseTypeFactory.getInstances().stream().map(DatabaseType::getType).collect(Collectors.toList());
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private static final byte NULL_TAG = 0;
+    
+    private static final byte BYTES_TAG = 1;
+    
+    private static final byte STRING_TAG = 2;
+    
+    private static final byte NUMBER_TAG = 3;
+    
+    private static final byte OTHER_TAG = 4;
+    
+    @Getter
+    private Properties props;
+    
+    private int chunkSize;
+    
+    private final Map<String, String> firstSQLCache = new ConcurrentHashMap<>();
+    
+    private final Map<String, String> laterSQLCache = new ConcurrentHashMap<>();
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        chunkSize = getChunkSize(props);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<Object> calculateChunk(final DataConsistencyCalculateParameter parameter) {
+        CalculatedResult previousCalculatedResult = (CalculatedResult) parameter.getPreviousCalculatedResult();
+        String sql = getQuerySQL(parameter);
+        try (
+                Connection connection = parameter.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            if (null == previousCalculatedResult) {
+                preparedStatement.setInt(1, chunkSize);
+            } else {
+                preparedStatement.setObject(1, previousCalculatedResult.getMaxUniqueKeyValue());
+                preparedStatement.setInt(2, chunkSize);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                int recordCount = 0;
+                Hasher hasher = Hashing.sha256().newHasher();
+                Object minUniqueKeyValue = null;
+                Object maxUniqueKeyValue = null;
+                while (resultSet.next()) {
+                    for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                        putValue(hasher, resultSet.getObject(columnIndex));
+                    }
+                    maxUniqueKeyValue = resultSet.getObject(parameter.getUniqueKey());
+                    if (0 == recordCount++) {
+                        minUniqueKeyValue = maxUniqueKeyValue;
+                    }
+                }
+                return 0 == recordCount ? Optional.empty() : Optional.of(new CalculatedResult(minUniqueKeyValue, maxUniqueKeyValue, recordCount, hasher.hash().asBytes()));
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", parameter.getLogicTableName()), ex);
+        }
+    }
+    
+    private void putValue(final Hasher hasher, final Object value) throws SQLException {
+        if (null == value) {
+            hasher.putByte(NULL_TAG);
+        } else if (value instanceof byte[]) {
+            putBytes(hasher, BYTES_TAG, (byte[]) value);
+        } else if (value instanceof SQLXML) {
+            putBytes(hasher, STRING_TAG, ((SQLXML) value).getString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof String) {
+            putBytes(hasher, STRING_TAG, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Number) {
+            putBytes(hasher, NUMBER_TAG, toCanonicalNumber((Number) value).getBytes(StandardCharsets.UTF_8));
+        } else {
+            putBytes(hasher, OTHER_TAG, value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    private void putBytes(final Hasher hasher, final byte tag, final byte[] bytes) {
+        hasher.putByte(tag).putInt(bytes.length).putBytes(bytes);
+    }
+    
+    private String toCanonicalNumber(final Number value) {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal) {
+            decimal = (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            if (!Double.isFinite(value.doubleValue())) {
+                return value.toString();
+            }
+            decimal = BigDecimal.valueOf(value.doubleValue());
+        } else {
+            decimal = BigDecimal.valueOf(value.longValue());
+        }
+        // numbers equal in value, such as 1.0 and 1.00, or int and long of same value, must have same digest
+        return decimal.stripTrailingZeros().toPlainString();
+    }
+    
+    private String getQuerySQL(final DataConsistencyCalculateParameter parameter) {
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(parameter.getDatabaseType());
+        String logicTableName = parameter.getLogicTableName();
+        String schemaName = parameter.getTableNameSchemaNameMapping().getSchemaName(logicTableName);
+        String uniqueKey = parameter.getUniqueKey();
+        String cacheKey = schemaName.toLowerCase() + "." + logicTableName.toLowerCase();
+        if (null == parameter.getPreviousCalculatedResult()) {
+            return firstSQLCache.computeIfAbsent(cacheKey, s -> sqlBuilder.buildChunkedQuerySQL(schemaName, logicTableName, uniqueKey, true));
+        } else {
+            return laterSQLCache.computeIfAbsent(cacheKey, s -> sqlBuilder.buildChunkedQuerySQL(schemaName, logicTableName, uniqueKey, false));
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "DIGEST_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Match digest of chunked records.";
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode(exclude = "minUniqueKeyValue")
+    @ToString
+    static final class CalculatedResult {
+        
+        private final Object minUniqueKeyValue;
+        
+        private final Object maxUniqueKeyValue;
+        
+        private final int recordCount;
+        
+        private final byte[] digest;
+    }
+}
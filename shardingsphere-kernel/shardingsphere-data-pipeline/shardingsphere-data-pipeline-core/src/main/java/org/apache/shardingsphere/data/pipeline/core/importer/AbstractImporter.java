@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
@@ -53,6 +55,10 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final long MULTI_ROW_INSERT_MAX_BYTES = 2 * 1024 * 1024L;
+    
+    private static final int MULTI_ROW_INSERT_MAX_PARAMETERS = Short.MAX_VALUE;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -62,10 +68,13 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private final PipelineChannel channel;
     
+    private final JobRateLimitAlgorithm rateLimitAlgorithm;
+    
     protected AbstractImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
         this.channel = channel;
+        rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         pipelineSqlBuilder = PipelineSQLBuilderFactory.getInstance(importerConfig.getDataSourceConfig().getDatabaseType().getType());
     }
     
@@ -79,8 +88,8 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         int round = 1;
         int rowCount = 0;
         boolean finishedByBreak = false;
-        int batchSize = importerConfig.getBatchSize() * 2;
         while (isRunning()) {
+            int batchSize = (null == rateLimitAlgorithm ? importerConfig.getBatchSize() : rateLimitAlgorithm.getBatchSize(importerConfig.getBatchSize())) * 2;
             List<Record> records = channel.fetchRecords(batchSize, 3);
             if (null != records && !records.isEmpty()) {
                 round++;
@@ -113,6 +122,9 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         if (null == buffer || buffer.isEmpty()) {
             return;
         }
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(getJobOperationType(buffer.get(0).getType()), buffer.size());
+        }
         boolean success = tryFlush(dataSource, buffer);
         if (isRunning() && !success) {
             throw new PipelineJobExecutionException("write failed.");
@@ -122,7 +134,11 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
+                long startTimeMillis = System.currentTimeMillis();
                 doFlush(dataSource, buffer);
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.feedback(getJobOperationType(buffer.get(0).getType()), System.currentTimeMillis() - startTimeMillis);
+                }
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -132,6 +148,17 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         return false;
     }
     
+    private JobOperationType getJobOperationType(final String changeType) {
+        switch (changeType) {
+            case IngestDataChangeType.UPDATE:
+                return JobOperationType.UPDATE;
+            case IngestDataChangeType.DELETE:
+                return JobOperationType.DELETE;
+            default:
+                return JobOperationType.INSERT;
+        }
+    }
+    
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
@@ -153,17 +180,57 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        int fromIndex = 0;
+        while (fromIndex < dataRecords.size()) {
+            int toIndex = getMultiRowInsertEndIndex(dataRecords, fromIndex);
+            executeMultiRowInsert(connection, dataRecords.subList(fromIndex, toIndex));
+            fromIndex = toIndex;
+        }
+    }
+    
+    private int getMultiRowInsertEndIndex(final List<DataRecord> dataRecords, final int fromIndex) {
+        int result = fromIndex;
+        long bytes = 0;
+        int parameterCount = 0;
+        while (result < dataRecords.size()) {
+            DataRecord each = dataRecords.get(result);
+            bytes += estimateBytes(each);
+            parameterCount += each.getColumnCount();
+            if (result > fromIndex && (bytes > MULTI_ROW_INSERT_MAX_BYTES || parameterCount > MULTI_ROW_INSERT_MAX_PARAMETERS)) {
+                break;
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final DataRecord dataRecord) {
+        long result = 0;
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            Object value = dataRecord.getColumnValue(i);
+            if (value instanceof CharSequence) {
+                result += ((CharSequence) value).length();
+            } else if (value instanceof byte[]) {
+                result += ((byte[]) value).length;
+            } else {
+                result += 8;
+            }
+        }
+        return result;
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, importerConfig.getShardingColumnsMap());
+        String insertSql = pipelineSqlBuilder.buildMultiRowInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, dataRecords.size(), importerConfig.getShardingColumnsMap());
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(parameterIndex++, each.getColumnValue(i));
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
         }
     }
     
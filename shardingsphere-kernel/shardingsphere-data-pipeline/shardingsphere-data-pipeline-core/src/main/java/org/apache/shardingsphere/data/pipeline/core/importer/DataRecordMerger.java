@@ -17,12 +17,10 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineUnexpectedDataRecordOrderException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
-import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -33,6 +31,8 @@ import java.util.stream.Collectors;
 
 /**
  * Data Record merger.
+ *
+ * <p>Records are merged by column index on the columnar data, columns are not created.</p>
  */
 public final class DataRecordMerger {
     
@@ -125,15 +125,10 @@ public final class DataRecordMerger {
             throw new PipelineUnexpectedDataRecordOrderException(beforeDataRecord, dataRecord);
         }
         if (null != beforeDataRecord && IngestDataChangeType.UPDATE.equals(beforeDataRecord.getType()) && checkUpdatedPrimaryKey(beforeDataRecord)) {
-            DataRecord mergedDataRecord = new DataRecord(dataRecord.getPosition(), dataRecord.getColumnCount());
+            DataRecord mergedDataRecord = new DataRecord(dataRecord.getPosition(), dataRecord.getColumnNames());
             for (int i = 0; i < dataRecord.getColumnCount(); i++) {
-                mergedDataRecord.addColumn(new Column(
-                        dataRecord.getColumn(i).getName(),
-                        dataRecord.getColumn(i).isUniqueKey()
-                                ? beforeDataRecord.getColumn(i).getOldValue()
-                                : beforeDataRecord.getColumn(i).getValue(),
-                        true,
-                        dataRecord.getColumn(i).isUniqueKey()));
+                mergedDataRecord.addColumn(dataRecord.getColumnName(i), null,
+                        dataRecord.isColumnUniqueKey(i) ? beforeDataRecord.getColumnOldValue(i) : beforeDataRecord.getColumnValue(i), true, dataRecord.isColumnUniqueKey(i));
             }
             mergedDataRecord.setTableName(dataRecord.getTableName());
             mergedDataRecord.setType(IngestDataChangeType.DELETE);
@@ -145,25 +140,28 @@ public final class DataRecordMerger {
     }
     
     private boolean checkUpdatedPrimaryKey(final DataRecord dataRecord) {
-        return RecordUtil.extractPrimaryColumns(dataRecord).stream().anyMatch(Column::isUpdated);
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isColumnUniqueKey(i) && dataRecord.isColumnUpdated(i)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private DataRecord mergeColumn(final DataRecord preDataRecord, final DataRecord curDataRecord) {
-        DataRecord result = new DataRecord(curDataRecord.getPosition(), curDataRecord.getColumnCount());
+        DataRecord result = new DataRecord(curDataRecord.getPosition(), curDataRecord.getColumnNames());
         for (int i = 0; i < curDataRecord.getColumnCount(); i++) {
-            result.addColumn(new Column(
-                    curDataRecord.getColumn(i).getName(),
-                    preDataRecord.getColumn(i).isUniqueKey()
-                            ? mergePrimaryKeyOldValue(preDataRecord.getColumn(i), curDataRecord.getColumn(i))
-                            : null,
-                    curDataRecord.getColumn(i).getValue(),
-                    preDataRecord.getColumn(i).isUpdated() || curDataRecord.getColumn(i).isUpdated(),
-                    curDataRecord.getColumn(i).isUniqueKey()));
+            result.addColumn(
+                    curDataRecord.getColumnName(i),
+                    preDataRecord.isColumnUniqueKey(i) ? mergePrimaryKeyOldValue(preDataRecord, curDataRecord, i) : null,
+                    curDataRecord.getColumnValue(i),
+                    preDataRecord.isColumnUpdated(i) || curDataRecord.isColumnUpdated(i),
+                    curDataRecord.isColumnUniqueKey(i));
         }
         return result;
     }
     
-    private Object mergePrimaryKeyOldValue(final Column beforeColumn, final Column column) {
-        return beforeColumn.isUpdated() ? beforeColumn.getOldValue() : (column.isUpdated() ? column.getOldValue() : null);
+    private Object mergePrimaryKeyOldValue(final DataRecord beforeDataRecord, final DataRecord dataRecord, final int index) {
+        return beforeDataRecord.isColumnUpdated(index) ? beforeDataRecord.getColumnOldValue(index) : (dataRecord.isColumnUpdated(index) ? dataRecord.getColumnOldValue(index) : null);
     }
 }
@@ -34,11 +34,15 @@ public final class MemoryPipelineChannelCreator implements PipelineChannelCreato
     
     private static final String BLOCK_QUEUE_SIZE_KEY = "block-queue-size";
     
+    private static final String RING_BUFFER_ENABLED_KEY = "ring-buffer-enabled";
+    
     @Getter
     private Properties props;
     
     private int blockQueueSize = 10000;
     
+    private boolean ringBufferEnabled;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -46,14 +50,15 @@ public final class MemoryPipelineChannelCreator implements PipelineChannelCreato
         if (!Strings.isNullOrEmpty(blockQueueSizeValue)) {
             blockQueueSize = Integer.parseInt(blockQueueSizeValue);
         }
+        ringBufferEnabled = Boolean.parseBoolean(props.getProperty(RING_BUFFER_ENABLED_KEY));
     }
     
     @Override
     public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
         if (1 == outputConcurrency) {
-            return new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            return ringBufferEnabled ? new RingBufferMemoryPipelineChannel(blockQueueSize, ackCallback) : new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
         }
-        return new MultiplexMemoryPipelineChannel(outputConcurrency, blockQueueSize, ackCallback);
+        return new MultiplexMemoryPipelineChannel(outputConcurrency, blockQueueSize, ackCallback, ringBufferEnabled);
     }
     
     @Override
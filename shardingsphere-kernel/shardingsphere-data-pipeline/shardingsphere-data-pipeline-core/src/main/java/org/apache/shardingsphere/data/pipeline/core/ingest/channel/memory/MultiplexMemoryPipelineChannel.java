@@ -26,9 +26,12 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderReco
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 /**
  * Multiplex memory pipeline channel.
@@ -44,6 +47,8 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
+    private final OrderedAckCallback ackCallback;
+    
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
     }
@@ -57,33 +62,61 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, blockQueueSize, ackCallback, false);
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback, final boolean ringBufferEnabled) {
+        this(channelNumber, ackCallback, each -> ringBufferEnabled ? new RingBufferMemoryPipelineChannel(blockQueueSize, each) : new SimpleMemoryPipelineChannel(blockQueueSize, each));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final AckCallback ackCallback, final Function<AckCallback, PipelineChannel> channelCreator) {
         this.channelNumber = channelNumber;
+        this.ackCallback = new OrderedAckCallback(ackCallback, channelNumber);
         channels = new PipelineChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            channels[i] = channelCreator.apply(this.ackCallback.createChannelAckCallback(i));
         }
     }
     
     @Override
     public void pushRecord(final Record record) {
+        route(record, each -> channels[each].pushRecord(record));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) {
+        List<List<Record>> channelRecords = new ArrayList<>(channelNumber);
+        for (int i = 0; i < channelNumber; i++) {
+            channelRecords.add(new ArrayList<>(records.size()));
+        }
+        for (Record each : records) {
+            route(each, channelIndex -> channelRecords.get(channelIndex).add(each));
+        }
+        for (int i = 0; i < channelNumber; i++) {
+            if (!channelRecords.get(i).isEmpty()) {
+                channels[i].pushRecords(channelRecords.get(i));
+            }
+        }
+    }
+    
+    private void route(final Record record, final IntConsumer channelIndexConsumer) {
         if (FinishedRecord.class.equals(record.getClass())) {
+            ackCallback.trackBroadcast();
             for (int i = 0; i < channelNumber; i++) {
-                pushRecord(record, i);
+                channelIndexConsumer.accept(i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            int channelIndex = Math.abs(record.hashCode() % channelNumber);
+            ackCallback.track(channelIndex);
+            channelIndexConsumer.accept(channelIndex);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
-            pushRecord(record, 0);
+            ackCallback.track(0);
+            channelIndexConsumer.accept(0);
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
-    private void pushRecord(final Record record, final int channelIndex) {
-        PipelineChannel channel = channels[channelIndex];
-        channel.pushRecord(record);
-    }
-    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         return findChannel().fetchRecords(batchSize, timeoutSeconds);
@@ -124,5 +157,6 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         for (PipelineChannel each : channels) {
             each.close();
         }
+        ackCallback.clear();
     }
 }
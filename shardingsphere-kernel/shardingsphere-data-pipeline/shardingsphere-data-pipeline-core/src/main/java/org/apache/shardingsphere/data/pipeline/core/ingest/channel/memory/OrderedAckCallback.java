@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Ordered record acknowledged callback.
+ *
+ * <p>Records might be acknowledged out of order by different consumers. The delegate is only called with the acknowledged prefix of pushed records,
+ * so the position it sees never passes a record which is not written yet.</p>
+ *
+ * <p>Every channel acknowledges its records in the order they are pushed, so acknowledged records are matched by their order in the channel instead of identity.
+ * Channels which decode records from serialized form acknowledge other instances than the pushed ones.</p>
+ */
+public final class OrderedAckCallback {
+    
+    private final AckCallback delegate;
+    
+    private final Deque<PendingRecord> pendingRecords = new ArrayDeque<>();
+    
+    private final List<Queue<PendingRecord>> channelPendingRecords;
+    
+    public OrderedAckCallback(final AckCallback delegate, final int channelNumber) {
+        this.delegate = delegate;
+        channelPendingRecords = new ArrayList<>(channelNumber);
+        for (int i = 0; i < channelNumber; i++) {
+            channelPendingRecords.add(new ArrayDeque<>());
+        }
+    }
+    
+    /**
+     * Track record before it's pushed to channel.
+     *
+     * @param channelIndex index of channel which the record is pushed to
+     */
+    public synchronized void track(final int channelIndex) {
+        PendingRecord pendingRecord = new PendingRecord(1);
+        pendingRecords.addLast(pendingRecord);
+        channelPendingRecords.get(channelIndex).add(pendingRecord);
+    }
+    
+    /**
+     * Track record before it's pushed to all channels.
+     */
+    public synchronized void trackBroadcast() {
+        PendingRecord pendingRecord = new PendingRecord(channelPendingRecords.size());
+        pendingRecords.addLast(pendingRecord);
+        for (Queue<PendingRecord> each : channelPendingRecords) {
+            each.add(pendingRecord);
+        }
+    }
+    
+    /**
+     * Create acknowledged callback of channel.
+     *
+     * @param channelIndex index of channel
+     * @return acknowledged callback of channel
+     */
+    public AckCallback createChannelAckCallback(final int channelIndex) {
+        return records -> onAck(channelIndex, records);
+    }
+    
+    private synchronized void onAck(final int channelIndex, final List<Record> records) {
+        Queue<PendingRecord> channelRecords = channelPendingRecords.get(channelIndex);
+        for (Record each : records) {
+            PendingRecord pendingRecord = channelRecords.poll();
+            if (null == pendingRecord) {
+                break;
+            }
+            // pushed record is not kept, the acknowledged one has the same position
+            pendingRecord.record = each;
+            pendingRecord.remainingAckCount--;
+        }
+        List<Record> ackedRecords = new LinkedList<>();
+        while (!pendingRecords.isEmpty() && 0 == pendingRecords.peekFirst().remainingAckCount) {
+            ackedRecords.add(pendingRecords.pollFirst().record);
+        }
+        if (!ackedRecords.isEmpty()) {
+            delegate.onAck(ackedRecords);
+        }
+    }
+    
+    /**
+     * Clear pending records.
+     */
+    public synchronized void clear() {
+        pendingRecords.clear();
+        channelPendingRecords.forEach(Queue::clear);
+    }
+    
+    private static final class PendingRecord {
+        
+        private Record record;
+        
+        private int remainingAckCount;
+        
+        PendingRecord(final int remainingAckCount) {
+            this.remainingAckCount = remainingAckCount;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer memory pipeline channel.
+ *
+ * <p>Lock free, for one producer thread and one consumer thread only. The producer publishes a pushed batch and the consumer releases a fetched batch,
+ * each with one ordered write.</p>
+ */
+public final class RingBufferMemoryPipelineChannel implements PipelineChannel {
+    
+    private static final long PUSH_PARK_NANOS = 100_000L;
+    
+    private final Record[] buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final AtomicLong readSequence = new AtomicLong();
+    
+    private final AckCallback ackCallback;
+    
+    private long cachedReadSequence;
+    
+    private volatile boolean closed;
+    
+    public RingBufferMemoryPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        buffer = new Record[capacity];
+        mask = capacity - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        long sequence = writeSequence.get();
+        if (0 == awaitFreeSlots(sequence, 1)) {
+            return;
+        }
+        buffer[(int) sequence & mask] = dataRecord;
+        writeSequence.lazySet(sequence + 1);
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) {
+        int pushed = 0;
+        while (pushed < records.size()) {
+            long sequence = writeSequence.get();
+            int count = awaitFreeSlots(sequence, records.size() - pushed);
+            if (0 == count) {
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                buffer[(int) (sequence + i) & mask] = records.get(pushed + i);
+            }
+            writeSequence.lazySet(sequence + count);
+            pushed += count;
+        }
+    }
+    
+    private int awaitFreeSlots(final long sequence, final int required) {
+        long wrapPoint = sequence - buffer.length;
+        if (cachedReadSequence - wrapPoint < required) {
+            cachedReadSequence = readSequence.get();
+        }
+        while (cachedReadSequence <= wrapPoint && (cachedReadSequence = readSequence.get()) <= wrapPoint) {
+            if (closed) {
+                return 0;
+            }
+            LockSupport.parkNanos(PUSH_PARK_NANOS);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RuntimeException("put record into ring buffer failed, thread interrupted");
+            }
+        }
+        return (int) Math.min(required, cachedReadSequence - wrapPoint);
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        long sequence = readSequence.get();
+        if (closed) {
+            release(sequence, (int) (writeSequence.get() - sequence));
+            return Collections.emptyList();
+        }
+        long start = System.currentTimeMillis();
+        while (batchSize > writeSequence.get() - sequence) {
+            if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
+                break;
+            }
+            ThreadUtil.sleep(100L);
+        }
+        int count = (int) Math.min(batchSize, writeSequence.get() - sequence);
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(buffer[(int) (sequence + i) & mask]);
+        }
+        release(sequence, count);
+        return result;
+    }
+    
+    private void release(final long sequence, final int count) {
+        for (int i = 0; i < count; i++) {
+            buffer[(int) (sequence + i) & mask] = null;
+        }
+        readSequence.lazySet(sequence + count);
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        // only mark closed here, sequences and slots are owned by producer and consumer threads
+        closed = true;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.record.RecordCodec;
+import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Spill pipeline channel.
+ *
+ * <p>Records are kept in memory until memory capacity is reached, then they are appended to memory mapped segment files,
+ * replayed in order after records in memory, and segment files are deleted after all of their records are read.
+ * Pushing records blocks when total size of segment files reaches max spill size.</p>
+ */
+@Slf4j
+public final class SpillPipelineChannel implements PipelineChannel {
+    
+    private final int memoryCapacity;
+    
+    private final int segmentSize;
+    
+    private final long maxSpillSize;
+    
+    private final Path directory;
+    
+    private final AckCallback ackCallback;
+    
+    private final Queue<Record> memoryRecords = new ArrayDeque<>();
+    
+    // positions which could not be encoded by value, they are replayed in the same order with spilled records
+    private final Queue<IngestPosition<?>> spilledPositions = new ArrayDeque<>();
+    
+    private final RecordCodec recordCodec = new RecordCodec(each -> spilledPositions.poll());
+    
+    private final Deque<SpillSegment> segments = new LinkedList<>();
+    
+    private int segmentSequence;
+    
+    private int spilledCount;
+    
+    private long spillSize;
+    
+    public SpillPipelineChannel(final int memoryCapacity, final int segmentSize, final long maxSpillSize, final Path directory, final AckCallback ackCallback) {
+        this.memoryCapacity = memoryCapacity;
+        this.segmentSize = segmentSize;
+        this.maxSpillSize = maxSpillSize;
+        this.directory = directory;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        if (pushToMemory(dataRecord)) {
+            return;
+        }
+        byte[] bytes = recordCodec.encode(dataRecord);
+        while (!spill(dataRecord, bytes)) {
+            ThreadUtil.sleep(100L);
+        }
+    }
+    
+    private synchronized boolean pushToMemory(final Record record) {
+        if (0 == spilledCount && memoryRecords.size() < memoryCapacity) {
+            memoryRecords.add(record);
+            return true;
+        }
+        return false;
+    }
+    
+    private synchronized boolean spill(final Record record, final byte[] bytes) {
+        if (segments.isEmpty() || !segments.getLast().write(bytes)) {
+            int newSegmentSize = Math.max(segmentSize, Integer.BYTES + bytes.length);
+            // one segment is always allowed, otherwise a record larger than max spill size could never be pushed
+            if (0 < spillSize && spillSize + newSegmentSize > maxSpillSize) {
+                return false;
+            }
+            createSegment(newSegmentSize).write(bytes);
+        }
+        if (recordCodec.isPositionParserRequired(record.getPosition())) {
+            spilledPositions.add(record.getPosition());
+        }
+        spilledCount++;
+        return true;
+    }
+    
+    private SpillSegment createSegment(final int size) {
+        try {
+            Files.createDirectories(directory);
+            SpillSegment result = new SpillSegment(directory.resolve(String.format("segment-%08d", segmentSequence++)), size);
+            segments.addLast(result);
+            spillSize += size;
+            return result;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("create spill segment failed", ex);
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        long start = System.currentTimeMillis();
+        while (batchSize > size()) {
+            if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
+                break;
+            }
+            ThreadUtil.sleep(100L);
+        }
+        return drain(batchSize);
+    }
+    
+    private synchronized int size() {
+        return memoryRecords.size() + spilledCount;
+    }
+    
+    private synchronized List<Record> drain(final int batchSize) {
+        List<Record> result = new ArrayList<>(Math.min(batchSize, memoryRecords.size() + spilledCount));
+        while (result.size() < batchSize && !memoryRecords.isEmpty()) {
+            result.add(memoryRecords.poll());
+        }
+        while (result.size() < batchSize && spilledCount > 0) {
+            result.add(readSpilledRecord());
+        }
+        return result;
+    }
+    
+    private Record readSpilledRecord() {
+        SpillSegment segment = segments.getFirst();
+        spilledCount--;
+        Record result = recordCodec.decode(segment.read());
+        // records are decoded to heap, so segment could be released even if records are not acked yet
+        if (!segment.hasRemaining()) {
+            deleteSegment(segments.pollFirst());
+        }
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    private void deleteSegment(final SpillSegment segment) {
+        segment.delete();
+        spillSize -= segment.getSize();
+    }
+    
+    @Override
+    public synchronized void close() {
+        memoryRecords.clear();
+        spilledPositions.clear();
+        spilledCount = 0;
+        segments.forEach(this::deleteSegment);
+        segments.clear();
+        try {
+            Files.deleteIfExists(directory);
+        } catch (final IOException ex) {
+            log.warn("delete spill directory failed, directory={}", directory, ex);
+        }
+    }
+}
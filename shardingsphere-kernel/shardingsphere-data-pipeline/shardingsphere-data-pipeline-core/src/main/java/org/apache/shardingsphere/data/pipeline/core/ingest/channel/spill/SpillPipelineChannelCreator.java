@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Spill implementation of pipeline channel creator.
+ */
+public final class SpillPipelineChannelCreator implements PipelineChannelCreator {
+    
+    public static final String TYPE = "SPILL";
+    
+    private static final String BLOCK_QUEUE_SIZE_KEY = "block-queue-size";
+    
+    private static final String SPILL_DIRECTORY_KEY = "spill-directory";
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    private static final String MAX_SPILL_SIZE_KEY = "max-spill-size";
+    
+    @Getter
+    private Properties props;
+    
+    private int blockQueueSize = 10000;
+    
+    private String spillDirectory = Paths.get(System.getProperty("java.io.tmpdir"), "shardingsphere-pipeline-spill").toString();
+    
+    private int segmentSize = 64 * 1024 * 1024;
+    
+    private long maxSpillSize = 10L * 1024 * 1024 * 1024;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        String blockQueueSizeValue = props.getProperty(BLOCK_QUEUE_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(blockQueueSizeValue)) {
+            blockQueueSize = Integer.parseInt(blockQueueSizeValue);
+        }
+        String spillDirectoryValue = props.getProperty(SPILL_DIRECTORY_KEY);
+        if (!Strings.isNullOrEmpty(spillDirectoryValue)) {
+            spillDirectory = spillDirectoryValue;
+        }
+        String segmentSizeValue = props.getProperty(SEGMENT_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(segmentSizeValue)) {
+            segmentSize = Integer.parseInt(segmentSizeValue);
+        }
+        String maxSpillSizeValue = props.getProperty(MAX_SPILL_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(maxSpillSizeValue)) {
+            maxSpillSize = Long.parseLong(maxSpillSizeValue);
+        }
+        Preconditions.checkArgument(maxSpillSize >= segmentSize, "%s should not be less than %s", MAX_SPILL_SIZE_KEY, SEGMENT_SIZE_KEY);
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        if (1 == outputConcurrency) {
+            return createSpillPipelineChannel(ackCallback);
+        }
+        return new MultiplexMemoryPipelineChannel(outputConcurrency, ackCallback, this::createSpillPipelineChannel);
+    }
+    
+    private PipelineChannel createSpillPipelineChannel(final AckCallback ackCallback) {
+        Path directory = Paths.get(spillDirectory, UUID.randomUUID().toString());
+        return new SpillPipelineChannel(blockQueueSize, segmentSize, maxSpillSize, directory, ackCallback);
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import io.netty.util.internal.PlatformDependent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Spill segment, a memory mapped file which stores length prefixed encoded records.
+ */
+@Slf4j
+final class SpillSegment {
+    
+    private final Path file;
+    
+    private final FileChannel fileChannel;
+    
+    private final MappedByteBuffer buffer;
+    
+    @Getter
+    private final int size;
+    
+    private int writePosition;
+    
+    private int readPosition;
+    
+    SpillSegment(final Path file, final int size) throws IOException {
+        this.file = file;
+        fileChannel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = fileChannel.map(MapMode.READ_WRITE, 0, size);
+        this.size = size;
+    }
+    
+    /**
+     * Write encoded record.
+     *
+     * @param bytes encoded record
+     * @return written or not, false if there is no enough space
+     */
+    boolean write(final byte[] bytes) {
+        if (buffer.capacity() - writePosition < Integer.BYTES + bytes.length) {
+            return false;
+        }
+        ByteBuffer writeBuffer = buffer.duplicate();
+        writeBuffer.position(writePosition);
+        writeBuffer.putInt(bytes.length);
+        writeBuffer.put(bytes);
+        writePosition = writeBuffer.position();
+        return true;
+    }
+    
+    /**
+     * Whether there are records not read.
+     *
+     * @return has remaining or not
+     */
+    boolean hasRemaining() {
+        return readPosition < writePosition;
+    }
+    
+    /**
+     * Read next encoded record.
+     *
+     * @return encoded record
+     */
+    byte[] read() {
+        ByteBuffer readBuffer = buffer.duplicate();
+        readBuffer.position(readPosition);
+        byte[] result = new byte[readBuffer.getInt()];
+        readBuffer.get(result);
+        readPosition = readBuffer.position();
+        return result;
+    }
+    
+    /**
+     * Unmap, close and delete segment file.
+     */
+    void delete() {
+        // mapped buffer is released by GC only, unmap it explicitly to release memory and file as soon as possible
+        PlatformDependent.freeDirectBuffer(buffer);
+        try {
+            fileChannel.close();
+            Files.deleteIfExists(file);
+        } catch (final IOException ex) {
+            log.warn("delete spill segment failed, file={}", file, ex);
+        }
+    }
+}
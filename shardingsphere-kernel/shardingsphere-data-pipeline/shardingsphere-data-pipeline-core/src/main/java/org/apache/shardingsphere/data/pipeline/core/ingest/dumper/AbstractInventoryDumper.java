@@ -32,7 +32,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPositio
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPositionFactory;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
@@ -54,6 +54,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -63,6 +66,8 @@ import java.util.Optional;
 public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor implements InventoryDumper {
     
     @Getter(AccessLevel.PROTECTED)
+    private static final String LEGACY_STRING_PRIMARY_KEY_END_VALUE = "~";
+    
     private final InventoryDumperConfiguration dumperConfig;
     
     private final PipelineChannel channel;
@@ -106,26 +111,18 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     private void dump() {
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         int uniqueKeyDataType = dumperConfig.getUniqueKeyDataType();
-        String firstSQL = pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), uniqueKeyDataType, true);
-        String laterSQL = pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), uniqueKeyDataType, false);
         IngestPosition<?> position = dumperConfig.getPosition();
-        log.info("inventory dump, uniqueKeyDataType={}, firstSQL={}, laterSQL={}, position={}", uniqueKeyDataType, firstSQL, laterSQL, position);
         if (position instanceof FinishedPosition) {
-            log.info("It is already finished, ignore");
+            log.info("It is already finished, ignore, position={}", position);
             return;
         }
         Object startUniqueKeyValue = getPositionBeginValue(position);
         try (Connection conn = dataSource.getConnection()) {
-            int round = 1;
-            Optional<Object> maxUniqueKeyValue;
-            while ((maxUniqueKeyValue = dump0(conn, 1 == round ? firstSQL : laterSQL, uniqueKeyDataType, startUniqueKeyValue, round++)).isPresent()) {
-                startUniqueKeyValue = maxUniqueKeyValue.get();
-                if (!isRunning()) {
-                    log.info("inventory dump, running is false, break");
-                    break;
-                }
+            if (dumperConfig.isStreamingQuery()) {
+                dumpByStreamingQuery(conn, schemaName, uniqueKeyDataType, startUniqueKeyValue);
+            } else {
+                dumpByPagingQuery(conn, schemaName, uniqueKeyDataType, startUniqueKeyValue);
             }
-            log.info("inventory dump done, round={}, maxUniqueKeyValue={}", round, maxUniqueKeyValue);
         } catch (final SQLException ex) {
             log.error("inventory dump, ex caught, msg={}", ex.getMessage());
             throw new IngestException(ex);
@@ -135,52 +132,62 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
+    private void dumpByPagingQuery(final Connection conn, final String schemaName, final int uniqueKeyDataType, final Object startUniqueKeyValue) throws SQLException {
+        String firstSQL = buildInventoryDumpSQL(schemaName, uniqueKeyDataType, true);
+        String laterSQL = buildInventoryDumpSQL(schemaName, uniqueKeyDataType, false);
+        log.info("inventory dump, uniqueKeyDataType={}, firstSQL={}, laterSQL={}, position={}", uniqueKeyDataType, firstSQL, laterSQL, dumperConfig.getPosition());
+        Object currentUniqueKeyValue = startUniqueKeyValue;
+        int round = 1;
+        Optional<Object> maxUniqueKeyValue;
+        while ((maxUniqueKeyValue = dump0(conn, 1 == round ? firstSQL : laterSQL, uniqueKeyDataType, currentUniqueKeyValue, round++)).isPresent()) {
+            currentUniqueKeyValue = maxUniqueKeyValue.get();
+            if (!isRunning()) {
+                log.info("inventory dump, running is false, break");
+                break;
+            }
+        }
+        log.info("inventory dump done, round={}, maxUniqueKeyValue={}", round, maxUniqueKeyValue);
+    }
+    
     @SneakyThrows(ConcurrentException.class)
     private PipelineTableMetaData getTableMetaData() {
         return tableMetaDataLazyInitializer.get();
     }
     
     private Optional<Object> dump0(final Connection conn, final String sql, final int uniqueKeyDataType, final Object startUniqueKeyValue, final int round) throws SQLException {
+        int currentBatchSize = batchSize;
         if (null != rateLimitAlgorithm) {
             rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+            currentBatchSize = rateLimitAlgorithm.getBatchSize(batchSize);
         }
-        PipelineTableMetaData tableMetaData = getTableMetaData();
         try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
-            preparedStatement.setFetchSize(batchSize);
-            if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
-                preparedStatement.setObject(1, startUniqueKeyValue);
-                preparedStatement.setObject(2, getPositionEndValue(dumperConfig.getPosition()));
-                preparedStatement.setInt(3, batchSize);
-            } else if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
-                preparedStatement.setObject(1, startUniqueKeyValue);
-                preparedStatement.setInt(2, batchSize);
-            } else {
-                throw new IllegalArgumentException("Unsupported uniqueKeyDataType: " + uniqueKeyDataType);
-            }
+            preparedStatement.setFetchSize(currentBatchSize);
+            checkUniqueKeyDataType(uniqueKeyDataType);
+            setParameters(preparedStatement, startUniqueKeyValue, currentBatchSize);
+            long startTimeMillis = System.currentTimeMillis();
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                ResultSetMetaData metaData = resultSet.getMetaData();
-                int rowCount = 0;
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.feedback(JobOperationType.SELECT, System.currentTimeMillis() - startTimeMillis);
+                }
+                List<String> columnNames = getColumnNames(resultSet.getMetaData());
+                boolean[] uniqueKeys = getUniqueKeys(columnNames.size());
+                List<Record> records = new ArrayList<>(currentBatchSize);
                 Object maxUniqueKeyValue = null;
-                String logicTableName = dumperConfig.getLogicTableName();
                 while (resultSet.next()) {
-                    DataRecord record = new DataRecord(newPosition(resultSet), metaData.getColumnCount());
-                    record.setType(IngestDataChangeType.INSERT);
-                    record.setTableName(logicTableName);
-                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                        boolean isUniqueKey = tableMetaData.isUniqueKey(i - 1);
-                        Object value = readValue(resultSet, i);
-                        if (isUniqueKey) {
-                            maxUniqueKeyValue = value;
+                    DataRecord record = createDataRecord(resultSet, columnNames, uniqueKeys);
+                    for (int i = 0; i < uniqueKeys.length; i++) {
+                        if (uniqueKeys[i]) {
+                            maxUniqueKeyValue = record.getColumnValue(i);
                         }
-                        record.addColumn(new Column(metaData.getColumnName(i), value, true, isUniqueKey));
                     }
-                    pushRecord(record);
-                    rowCount++;
+                    records.add(record);
                     if (!isRunning()) {
                         log.info("dump, running is false, break");
                         break;
                     }
                 }
+                int rowCount = records.size();
+                channel.pushRecords(records);
                 if (0 == round % 50) {
                     log.info("dump, round={}, rowCount={}, maxUniqueKeyValue={}", round, rowCount, maxUniqueKeyValue);
                 }
@@ -189,6 +196,146 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
+    private void dumpByStreamingQuery(final Connection conn, final String schemaName, final int uniqueKeyDataType, final Object startUniqueKeyValue) throws SQLException {
+        checkUniqueKeyDataType(uniqueKeyDataType);
+        String firstSQL = buildInventoryDumpSQL(schemaName, uniqueKeyDataType, true);
+        String laterSQL = buildInventoryDumpSQL(schemaName, uniqueKeyDataType, false);
+        log.info("inventory dump by streaming query, uniqueKeyDataType={}, firstSQL={}, laterSQL={}, position={}, streamingQueryMaxRows={}",
+                uniqueKeyDataType, firstSQL, laterSQL, dumperConfig.getPosition(), dumperConfig.getStreamingQueryMaxRows());
+        boolean autoCommit = conn.getAutoCommit();
+        // PostgreSQL only uses cursor to fetch rows when auto commit is disabled
+        conn.setAutoCommit(false);
+        try {
+            Object currentUniqueKeyValue = startUniqueKeyValue;
+            int round = 1;
+            Optional<Object> maxUniqueKeyValue;
+            while ((maxUniqueKeyValue = dumpByStreamingQuery0(conn, 1 == round ? firstSQL : laterSQL, currentUniqueKeyValue, round++)).isPresent()) {
+                currentUniqueKeyValue = maxUniqueKeyValue.get();
+                if (!isRunning()) {
+                    log.info("inventory dump by streaming query, running is false, break");
+                    break;
+                }
+            }
+            log.info("inventory dump by streaming query done, round={}", round);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+    
+    private Optional<Object> dumpByStreamingQuery0(final Connection conn, final String sql, final Object startUniqueKeyValue, final int round) throws SQLException {
+        int maxRows = dumperConfig.getStreamingQueryMaxRows();
+        try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
+            preparedStatement.setFetchSize(getStreamingFetchSize(batchSize));
+            setParameters(preparedStatement, startUniqueKeyValue, maxRows);
+            if (null != rateLimitAlgorithm) {
+                rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+            }
+            long checkpointTimeMillis = System.currentTimeMillis();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                List<String> columnNames = getColumnNames(resultSet.getMetaData());
+                boolean[] uniqueKeys = getUniqueKeys(columnNames.size());
+                int rowCount = 0;
+                int checkpointRowCount = 0;
+                int checkpointBatchSize = null == rateLimitAlgorithm ? batchSize : rateLimitAlgorithm.getBatchSize(batchSize);
+                Object maxUniqueKeyValue = null;
+                List<Record> records = new ArrayList<>(checkpointBatchSize);
+                while (resultSet.next()) {
+                    DataRecord record = createDataRecord(resultSet, columnNames, uniqueKeys);
+                    for (int i = 0; i < uniqueKeys.length; i++) {
+                        if (uniqueKeys[i]) {
+                            maxUniqueKeyValue = record.getColumnValue(i);
+                        }
+                    }
+                    records.add(record);
+                    rowCount++;
+                    if (++checkpointRowCount >= checkpointBatchSize) {
+                        channel.pushRecords(records);
+                        records = new ArrayList<>(checkpointBatchSize);
+                        if (null != rateLimitAlgorithm) {
+                            rateLimitAlgorithm.feedback(JobOperationType.SELECT, System.currentTimeMillis() - checkpointTimeMillis);
+                            rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+                            checkpointBatchSize = rateLimitAlgorithm.getBatchSize(batchSize);
+                        }
+                        checkpointRowCount = 0;
+                        checkpointTimeMillis = System.currentTimeMillis();
+                    }
+                    if (!isRunning()) {
+                        log.info("dump by streaming query, running is false, break");
+                        // closing a streaming result set reads all remaining rows on some drivers
+                        preparedStatement.cancel();
+                        break;
+                    }
+                }
+                channel.pushRecords(records);
+                if (0 == round % 10) {
+                    log.info("dump by streaming query, round={}, rowCount={}, maxUniqueKeyValue={}", round, rowCount, maxUniqueKeyValue);
+                }
+                // fewer rows than limit means the range is exhausted, no need to query again
+                return rowCount < maxRows ? Optional.empty() : Optional.ofNullable(maxUniqueKeyValue);
+            }
+        } finally {
+            // end transaction of every query, so that snapshot and result set are not held for the whole range
+            conn.rollback();
+        }
+    }
+    
+    private String buildInventoryDumpSQL(final String schemaName, final int uniqueKeyDataType, final boolean firstQuery) {
+        return isUnboundedPosition()
+                ? pipelineSQLBuilder.buildUnboundedInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), firstQuery)
+                : pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), uniqueKeyDataType, firstQuery);
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final Object startUniqueKeyValue, final int limit) throws SQLException {
+        preparedStatement.setObject(1, startUniqueKeyValue);
+        if (isUnboundedPosition()) {
+            preparedStatement.setInt(2, limit);
+            return;
+        }
+        preparedStatement.setObject(2, getPositionEndValue(dumperConfig.getPosition()));
+        preparedStatement.setInt(3, limit);
+    }
+    
+    private boolean isUnboundedPosition() {
+        // string key positions persisted before ranges were split by real key values end with placeholder, which does not bound the range
+        IngestPosition<?> position = dumperConfig.getPosition();
+        return position instanceof StringPrimaryKeyPosition && LEGACY_STRING_PRIMARY_KEY_END_VALUE.equals(((StringPrimaryKeyPosition) position).getEndValue());
+    }
+    
+    private void checkUniqueKeyDataType(final int uniqueKeyDataType) {
+        if (!PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType) && !PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
+            throw new IllegalArgumentException("Unsupported uniqueKeyDataType: " + uniqueKeyDataType);
+        }
+    }
+    
+    private List<String> getColumnNames(final ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<String> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.add(metaData.getColumnName(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
+    private boolean[] getUniqueKeys(final int columnCount) {
+        PipelineTableMetaData tableMetaData = getTableMetaData();
+        boolean[] result = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = tableMetaData.isUniqueKey(i);
+        }
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final ResultSet resultSet, final List<String> columnNames, final boolean[] uniqueKeys) throws SQLException {
+        // column names are resolved once per query and shared by all records of it
+        DataRecord result = new DataRecord(newPosition(resultSet), columnNames);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName(dumperConfig.getLogicTableName());
+        for (int i = 0; i < uniqueKeys.length; i++) {
+            result.addColumn(columnNames.get(i), null, readValue(resultSet, i + 1), true, uniqueKeys[i]);
+        }
+        return result;
+    }
+    
     private Object getPositionBeginValue(final IngestPosition<?> position) {
         return ((PrimaryKeyPosition<?>) position).getBeginValue();
     }
@@ -204,6 +351,16 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     
     protected abstract PreparedStatement createPreparedStatement(Connection connection, String sql) throws SQLException;
     
+    /**
+     * Get fetch size of streaming query.
+     *
+     * @param batchSize batch size
+     * @return fetch size
+     */
+    protected int getStreamingFetchSize(final int batchSize) {
+        return batchSize;
+    }
+    
     protected Object readValue(final ResultSet resultSet, final int index) throws SQLException {
         return resultSet.getObject(index);
     }
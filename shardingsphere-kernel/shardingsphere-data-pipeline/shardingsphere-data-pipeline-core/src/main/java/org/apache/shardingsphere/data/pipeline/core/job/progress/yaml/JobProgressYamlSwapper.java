@@ -52,6 +52,8 @@ public final class JobProgressYamlSwapper {
         result.setSourceDatabaseType(jobProgress.getSourceDatabaseType());
         result.setInventory(getYamlInventory(jobProgress.getInventoryTaskProgressMap()));
         result.setIncremental(getYamlIncremental(jobProgress.getIncrementalTaskProgressMap()));
+        result.setInputRate(jobProgress.getInputRate());
+        result.setOutputRate(jobProgress.getOutputRate());
         return result;
     }
     
@@ -97,6 +99,8 @@ public final class JobProgressYamlSwapper {
         result.setSourceDatabaseType(yamlJobProgress.getSourceDatabaseType());
         result.setInventoryTaskProgressMap(getInventoryTaskProgressMap(yamlJobProgress.getInventory()));
         result.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(yamlJobProgress.getSourceDatabaseType(), yamlJobProgress.getIncremental()));
+        result.setInputRate(yamlJobProgress.getInputRate());
+        result.setOutputRate(yamlJobProgress.getOutputRate());
         return result;
     }
     
@@ -39,6 +39,10 @@ public final class YamlJobProgress {
     
     private Map<String, YamlIncremental> incremental;
     
+    private Double inputRate;
+    
+    private Double outputRate;
+    
     @Getter
     @Setter
     public static final class YamlInventory {
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Adaptive job rate limit algorithm.
+ *
+ * <p>Rate and batch size are adjusted by AIMD (additive increase, multiplicative decrease), according to smoothed operation latency and target latency.</p>
+ */
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    private static final String TARGET_LATENCY_MILLIS_KEY = "target-latency-millis";
+    
+    private static final String INITIAL_PERMITS_PER_SECOND_KEY = "initial-permits-per-second";
+    
+    private static final String MIN_PERMITS_PER_SECOND_KEY = "min-permits-per-second";
+    
+    private static final String MAX_PERMITS_PER_SECOND_KEY = "max-permits-per-second";
+    
+    private static final String ADDITIVE_INCREASE_KEY = "additive-increase";
+    
+    private static final String MULTIPLICATIVE_DECREASE_KEY = "multiplicative-decrease";
+    
+    private static final long DEFAULT_TARGET_LATENCY_MILLIS = 500L;
+    
+    private static final double DEFAULT_INITIAL_PERMITS_PER_SECOND = 100D;
+    
+    private static final double DEFAULT_MIN_PERMITS_PER_SECOND = 1D;
+    
+    private static final double DEFAULT_MAX_PERMITS_PER_SECOND = 10000D;
+    
+    private static final double DEFAULT_ADDITIVE_INCREASE = 10D;
+    
+    private static final double DEFAULT_MULTIPLICATIVE_DECREASE = 0.5D;
+    
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.3D;
+    
+    private static final double MIN_BATCH_SIZE_RATIO = 0.05D;
+    
+    private static final double BATCH_SIZE_RATIO_INCREASE = 0.05D;
+    
+    @Getter
+    private Properties props;
+    
+    private long targetLatencyMillis;
+    
+    private double minPermitsPerSecond;
+    
+    private double maxPermitsPerSecond;
+    
+    private double additiveIncrease;
+    
+    private double multiplicativeDecrease;
+    
+    private RateLimiter rateLimiter;
+    
+    private volatile double permitsPerSecond;
+    
+    private volatile double batchSizeRatio = 1D;
+    
+    private double smoothedLatencyMillis = -1D;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        targetLatencyMillis = Long.parseLong(props.getOrDefault(TARGET_LATENCY_MILLIS_KEY, DEFAULT_TARGET_LATENCY_MILLIS).toString());
+        Preconditions.checkArgument(targetLatencyMillis > 0, "Target latency millis must be positive.");
+        minPermitsPerSecond = getDoubleValue(props, MIN_PERMITS_PER_SECOND_KEY, DEFAULT_MIN_PERMITS_PER_SECOND);
+        maxPermitsPerSecond = getDoubleValue(props, MAX_PERMITS_PER_SECOND_KEY, DEFAULT_MAX_PERMITS_PER_SECOND);
+        Preconditions.checkArgument(minPermitsPerSecond > 0 && minPermitsPerSecond <= maxPermitsPerSecond, "Min permits per second must be positive and not greater than max permits per second.");
+        additiveIncrease = getDoubleValue(props, ADDITIVE_INCREASE_KEY, DEFAULT_ADDITIVE_INCREASE);
+        Preconditions.checkArgument(additiveIncrease > 0, "Additive increase must be positive.");
+        multiplicativeDecrease = getDoubleValue(props, MULTIPLICATIVE_DECREASE_KEY, DEFAULT_MULTIPLICATIVE_DECREASE);
+        Preconditions.checkArgument(multiplicativeDecrease > 0 && multiplicativeDecrease < 1, "Multiplicative decrease must be between 0 and 1.");
+        permitsPerSecond = Math.max(minPermitsPerSecond, Math.min(maxPermitsPerSecond, getDoubleValue(props, INITIAL_PERMITS_PER_SECOND_KEY, DEFAULT_INITIAL_PERMITS_PER_SECOND)));
+        rateLimiter = RateLimiter.create(permitsPerSecond);
+    }
+    
+    private double getDoubleValue(final Properties props, final String key, final double defaultValue) {
+        return Double.parseDouble(props.getOrDefault(key, defaultValue).toString());
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        rateLimiter.acquire(null == data ? 1 : Math.max(1, data.intValue()));
+    }
+    
+    @Override
+    public synchronized void feedback(final JobOperationType type, final long elapsedMillis) {
+        smoothedLatencyMillis = smoothedLatencyMillis < 0 ? elapsedMillis : LATENCY_SMOOTHING_FACTOR * elapsedMillis + (1 - LATENCY_SMOOTHING_FACTOR) * smoothedLatencyMillis;
+        if (smoothedLatencyMillis > targetLatencyMillis) {
+            permitsPerSecond = Math.max(minPermitsPerSecond, permitsPerSecond * multiplicativeDecrease);
+            batchSizeRatio = Math.max(MIN_BATCH_SIZE_RATIO, batchSizeRatio * multiplicativeDecrease);
+        } else {
+            permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + additiveIncrease);
+            batchSizeRatio = Math.min(1D, batchSizeRatio + BATCH_SIZE_RATIO_INCREASE);
+        }
+        rateLimiter.setRate(permitsPerSecond);
+    }
+    
+    @Override
+    public int getBatchSize(final int batchSize) {
+        return Math.max(1, (int) (batchSize * batchSizeRatio));
+    }
+    
+    @Override
+    public Optional<Double> getCurrentRate() {
+        return Optional.of(permitsPerSecond);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+    
+    @Override
+    public String toString() {
+        return "AdaptiveJobRateLimitAlgorithm{" + "props=" + props + '}';
+    }
+}
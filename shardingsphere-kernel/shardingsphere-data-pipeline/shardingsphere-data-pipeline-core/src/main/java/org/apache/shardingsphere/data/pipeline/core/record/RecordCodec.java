@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.record;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Record codec.
+ *
+ * <p>Encode record to compact binary form. Table names, column names and change types are written as ordinals of a dictionary shared by encoder and decoder,
+ * and values are written as type tagged primitive slots. So encoded records could only be decoded by the same codec instance.</p>
+ */
+@RequiredArgsConstructor
+public final class RecordCodec {
+    
+    private static final byte DATA_RECORD = 0;
+    
+    private static final byte PLACEHOLDER_RECORD = 1;
+    
+    private static final byte FINISHED_RECORD = 2;
+    
+    private static final byte PLACEHOLDER_POSITION = 0;
+    
+    private static final byte FINISHED_POSITION = 1;
+    
+    private static final byte INTEGER_PRIMARY_KEY_POSITION = 2;
+    
+    private static final byte STRING_PRIMARY_KEY_POSITION = 3;
+    
+    private static final byte OTHER_POSITION = 4;
+    
+    private static final byte NULL_VALUE = 0;
+    
+    private static final byte INTEGER_VALUE = 1;
+    
+    private static final byte LONG_VALUE = 2;
+    
+    private static final byte STRING_VALUE = 3;
+    
+    private static final byte BIG_DECIMAL_VALUE = 4;
+    
+    private static final byte BYTES_VALUE = 5;
+    
+    private static final byte BOOLEAN_VALUE = 6;
+    
+    private static final byte DOUBLE_VALUE = 7;
+    
+    private static final byte FLOAT_VALUE = 8;
+    
+    private static final byte SHORT_VALUE = 9;
+    
+    private static final byte BYTE_VALUE = 10;
+    
+    private static final byte TIMESTAMP_VALUE = 11;
+    
+    private static final byte DATE_VALUE = 12;
+    
+    private static final byte TIME_VALUE = 13;
+    
+    private static final byte BIG_INTEGER_VALUE = 14;
+    
+    private static final byte SERIALIZABLE_VALUE = 15;
+    
+    private static final int UPDATED_FLAG = 1;
+    
+    private static final int UNIQUE_KEY_FLAG = 1 << 1;
+    
+    private static final int OLD_VALUE_FLAG = 1 << 2;
+    
+    private final Function<String, IngestPosition<?>> positionParser;
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private final Map<String, Integer> dictionaryOrdinals = new HashMap<>();
+    
+    /**
+     * Judge whether position parser is required to decode position.
+     *
+     * @param position position
+     * @return parser is required or not
+     */
+    public boolean isPositionParserRequired(final IngestPosition<?> position) {
+        return !(position instanceof PlaceholderPosition || position instanceof FinishedPosition
+                || position instanceof IntegerPrimaryKeyPosition || position instanceof StringPrimaryKeyPosition);
+    }
+    
+    /**
+     * Encode record.
+     *
+     * @param record record
+     * @return encoded bytes
+     */
+    @SneakyThrows(IOException.class)
+    public byte[] encode(final Record record) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(result);
+        if (record instanceof DataRecord) {
+            out.writeByte(DATA_RECORD);
+        } else if (record instanceof FinishedRecord) {
+            out.writeByte(FINISHED_RECORD);
+        } else if (record instanceof PlaceholderRecord) {
+            out.writeByte(PLACEHOLDER_RECORD);
+        } else {
+            throw new UnsupportedOperationException("Unsupported record type: " + record.getClass().getName());
+        }
+        writePosition(out, record.getPosition());
+        out.writeLong(record.getCommitTime());
+        if (record instanceof DataRecord) {
+            writeDataRecord(out, (DataRecord) record);
+        }
+        out.flush();
+        return result.toByteArray();
+    }
+    
+    private void writePosition(final DataOutputStream out, final IngestPosition<?> position) throws IOException {
+        if (position instanceof PlaceholderPosition) {
+            out.writeByte(PLACEHOLDER_POSITION);
+        } else if (position instanceof FinishedPosition) {
+            out.writeByte(FINISHED_POSITION);
+        } else if (position instanceof IntegerPrimaryKeyPosition) {
+            out.writeByte(INTEGER_PRIMARY_KEY_POSITION);
+            out.writeLong(((IntegerPrimaryKeyPosition) position).getBeginValue());
+            out.writeLong(((IntegerPrimaryKeyPosition) position).getEndValue());
+        } else if (position instanceof StringPrimaryKeyPosition) {
+            // begin and end values are written separately, they may contain the delimiter of position string
+            out.writeByte(STRING_PRIMARY_KEY_POSITION);
+            writeValue(out, ((StringPrimaryKeyPosition) position).getBeginValue());
+            writeValue(out, ((StringPrimaryKeyPosition) position).getEndValue());
+        } else {
+            out.writeByte(OTHER_POSITION);
+            writeString(out, position.toString());
+        }
+    }
+    
+    private void writeDataRecord(final DataOutputStream out, final DataRecord record) throws IOException {
+        writeOrdinal(out, record.getType());
+        writeOrdinal(out, record.getTableName());
+        out.writeInt(record.getColumnCount());
+        for (int i = 0; i < record.getColumnCount(); i++) {
+            Object oldValue = record.getColumnOldValue(i);
+            writeOrdinal(out, record.getColumnName(i));
+            int flags = (record.isColumnUpdated(i) ? UPDATED_FLAG : 0) | (record.isColumnUniqueKey(i) ? UNIQUE_KEY_FLAG : 0) | (null != oldValue ? OLD_VALUE_FLAG : 0);
+            out.writeByte(flags);
+            if (null != oldValue) {
+                writeValue(out, oldValue);
+            }
+            writeValue(out, record.getColumnValue(i));
+        }
+    }
+    
+    private void writeOrdinal(final DataOutputStream out, final String name) throws IOException {
+        out.writeInt(null == name ? -1 : getOrdinal(name));
+    }
+    
+    private synchronized int getOrdinal(final String name) {
+        return dictionaryOrdinals.computeIfAbsent(name, key -> {
+            dictionary.add(key);
+            return dictionary.size() - 1;
+        });
+    }
+    
+    private void writeValue(final DataOutputStream out, final Object value) throws IOException {
+        if (null == value) {
+            out.writeByte(NULL_VALUE);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER_VALUE);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG_VALUE);
+            out.writeLong((Long) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING_VALUE);
+            writeString(out, (String) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL_VALUE);
+            out.writeInt(((BigDecimal) value).scale());
+            writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES_VALUE);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN_VALUE);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE_VALUE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT_VALUE);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT_VALUE);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE_VALUE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Timestamp) {
+            out.writeByte(TIMESTAMP_VALUE);
+            out.writeLong(((Timestamp) value).getTime());
+            out.writeInt(((Timestamp) value).getNanos());
+        } else if (Date.class.equals(value.getClass())) {
+            out.writeByte(DATE_VALUE);
+            out.writeLong(((Date) value).getTime());
+        } else if (Time.class.equals(value.getClass())) {
+            out.writeByte(TIME_VALUE);
+            out.writeLong(((Time) value).getTime());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER_VALUE);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value instanceof Serializable) {
+            out.writeByte(SERIALIZABLE_VALUE);
+            writeBytes(out, serialize((Serializable) value));
+        } else {
+            throw new UnsupportedOperationException("Unsupported value type: " + value.getClass().getName());
+        }
+    }
+    
+    private void writeString(final DataOutputStream out, final String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void writeBytes(final DataOutputStream out, final byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+    
+    private byte[] serialize(final Serializable value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Decode record.
+     *
+     * @param bytes encoded bytes
+     * @return record
+     */
+    @SneakyThrows({IOException.class, ClassNotFoundException.class})
+    public Record decode(final byte[] bytes) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte recordType = in.readByte();
+        IngestPosition<?> position = readPosition(in);
+        long commitTime = in.readLong();
+        Record result;
+        switch (recordType) {
+            case DATA_RECORD:
+                result = readDataRecord(in, position);
+                break;
+            case FINISHED_RECORD:
+                result = new FinishedRecord(position);
+                break;
+            case PLACEHOLDER_RECORD:
+                result = new PlaceholderRecord(position);
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported record type: " + recordType);
+        }
+        result.setCommitTime(commitTime);
+        return result;
+    }
+    
+    private IngestPosition<?> readPosition(final DataInputStream in) throws IOException, ClassNotFoundException {
+        byte positionType = in.readByte();
+        switch (positionType) {
+            case PLACEHOLDER_POSITION:
+                return new PlaceholderPosition();
+            case FINISHED_POSITION:
+                return new FinishedPosition();
+            case INTEGER_PRIMARY_KEY_POSITION:
+                return new IntegerPrimaryKeyPosition(in.readLong(), in.readLong());
+            case STRING_PRIMARY_KEY_POSITION:
+                return new StringPrimaryKeyPosition((String) readValue(in), (String) readValue(in));
+            default:
+                return positionParser.apply(readString(in));
+        }
+    }
+    
+    private DataRecord readDataRecord(final DataInputStream in, final IngestPosition<?> position) throws IOException, ClassNotFoundException {
+        String type = readName(in);
+        String tableName = readName(in);
+        int columnCount = in.readInt();
+        DataRecord result = new DataRecord(position, columnCount);
+        result.setType(type);
+        result.setTableName(tableName);
+        for (int i = 0; i < columnCount; i++) {
+            String name = readName(in);
+            int flags = in.readByte();
+            Object oldValue = 0 != (flags & OLD_VALUE_FLAG) ? readValue(in) : null;
+            result.addColumn(name, oldValue, readValue(in), 0 != (flags & UPDATED_FLAG), 0 != (flags & UNIQUE_KEY_FLAG));
+        }
+        return result;
+    }
+    
+    private String readName(final DataInputStream in) throws IOException {
+        int ordinal = in.readInt();
+        return -1 == ordinal ? null : getName(ordinal);
+    }
+    
+    private synchronized String getName(final int ordinal) {
+        return dictionary.get(ordinal);
+    }
+    
+    private Object readValue(final DataInputStream in) throws IOException, ClassNotFoundException {
+        byte valueType = in.readByte();
+        switch (valueType) {
+            case NULL_VALUE:
+                return null;
+            case INTEGER_VALUE:
+                return in.readInt();
+            case LONG_VALUE:
+                return in.readLong();
+            case STRING_VALUE:
+                return readString(in);
+            case BIG_DECIMAL_VALUE:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BYTES_VALUE:
+                return readBytes(in);
+            case BOOLEAN_VALUE:
+                return in.readBoolean();
+            case DOUBLE_VALUE:
+                return in.readDouble();
+            case FLOAT_VALUE:
+                return in.readFloat();
+            case SHORT_VALUE:
+                return in.readShort();
+            case BYTE_VALUE:
+                return in.readByte();
+            case TIMESTAMP_VALUE:
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case DATE_VALUE:
+                return new Date(in.readLong());
+            case TIME_VALUE:
+                return new Time(in.readLong());
+            case BIG_INTEGER_VALUE:
+                return new BigInteger(readBytes(in));
+            case SERIALIZABLE_VALUE:
+                try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return objectInputStream.readObject();
+                }
+            default:
+                throw new UnsupportedOperationException("Unsupported value type: " + valueType);
+        }
+    }
+    
+    private String readString(final DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] readBytes(final DataInputStream in) throws IOException {
+        byte[] result = new byte[in.readInt()];
+        in.readFully(result);
+        return result;
+    }
+}
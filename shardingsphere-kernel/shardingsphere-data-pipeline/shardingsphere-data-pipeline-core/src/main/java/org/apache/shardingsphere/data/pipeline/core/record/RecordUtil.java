@@ -39,10 +39,10 @@ public final class RecordUtil {
      * @return primary columns
      */
     public static List<Column> extractPrimaryColumns(final DataRecord dataRecord) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isUniqueKey()) {
-                result.add(each);
+        List<Column> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isColumnUniqueKey(i)) {
+                result.add(dataRecord.getColumn(i));
             }
         }
         return result;
@@ -56,10 +56,10 @@ public final class RecordUtil {
      * @return condition columns
      */
     public static List<Column> extractConditionColumns(final DataRecord dataRecord, final Set<String> shardingColumns) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isUniqueKey() || shardingColumns.contains(each.getName())) {
-                result.add(each);
+        List<Column> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isColumnUniqueKey(i) || shardingColumns.contains(dataRecord.getColumnName(i))) {
+                result.add(dataRecord.getColumn(i));
             }
         }
         return result;
@@ -72,10 +72,10 @@ public final class RecordUtil {
      * @return updated columns
      */
     public static List<Column> extractUpdatedColumns(final DataRecord dataRecord) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isUpdated()) {
-                result.add(each);
+        List<Column> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isColumnUpdated(i)) {
+                result.add(dataRecord.getColumn(i));
             }
         }
         return result;
@@ -81,12 +81,19 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
                     + " AND " + quotedUniqueKey + " <= ? ORDER BY " + quotedUniqueKey + " ASC LIMIT ?";
         } else if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
             return "SELECT * FROM " + decoratedTableName + " WHERE " + quotedUniqueKey + " " + (firstQuery ? ">=" : ">") + " ?"
-                    + " ORDER BY " + quotedUniqueKey + " ASC LIMIT ?";
+                    + " AND " + quotedUniqueKey + " <= ? ORDER BY " + quotedUniqueKey + " ASC LIMIT ?";
         } else {
             throw new IllegalArgumentException("Unknown uniqueKeyDataType: " + uniqueKeyDataType);
         }
     }
     
+    @Override
+    public String buildUnboundedInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return "SELECT * FROM " + decorate(schemaName, tableName) + " WHERE " + quotedUniqueKey + " " + (firstQuery ? ">=" : ">") + " ?"
+                + " ORDER BY " + quotedUniqueKey + " ASC LIMIT ?";
+    }
+    
     protected String decorate(final String schemaName, final String tableName) {
         StringBuilder result = new StringBuilder();
         if (isSchemaAvailable() && !Strings.isNullOrEmpty(schemaName)) {
@@ -102,6 +109,24 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+        return getInsertSQL(schemaName, dataRecord) + buildInsertConflictSQL(dataRecord, shardingColumnsMap);
+    }
+    
+    @Override
+    public String buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+        StringBuilder result = new StringBuilder(getInsertSQL(schemaName, dataRecord));
+        StringBuilder holder = new StringBuilder(",(");
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            holder.append("?,");
+        }
+        holder.setCharAt(holder.length() - 1, ')');
+        for (int i = 1; i < rowCount; i++) {
+            result.append(holder);
+        }
+        return result.append(buildInsertConflictSQL(dataRecord, shardingColumnsMap)).toString();
+    }
+    
+    private String getInsertSQL(final String schemaName, final DataRecord dataRecord) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns()));
@@ -109,6 +134,17 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return sqlCacheMap.get(sqlCacheKey);
     }
     
+    /**
+     * Build the conflict resolution clause appended to insert SQL.
+     *
+     * @param dataRecord data record
+     * @param shardingColumnsMap sharding columns map
+     * @return conflict SQL, empty by default
+     */
+    protected String buildInsertConflictSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+        return "";
+    }
+    
     private String buildInsertSQLInternal(final String schemaName, final String tableName, final List<Column> columns) {
         StringBuilder columnsLiteral = new StringBuilder();
         StringBuilder holder = new StringBuilder();
@@ -201,4 +237,11 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         String quotedKey = quote(primaryKey);
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, decorate(schemaName, tableName), quotedKey, quotedKey);
     }
+    
+    @Override
+    public String buildSplitByStringPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String primaryKey, final boolean firstQuery) {
+        String quotedKey = quote(primaryKey);
+        return String.format("SELECT MIN(%s), MAX(%s), COUNT(*) FROM (SELECT %s FROM %s WHERE %s%s? ORDER BY %s LIMIT ?) t",
+                quotedKey, quotedKey, quotedKey, decorate(schemaName, tableName), quotedKey, firstQuery ? ">=" : ">", quotedKey);
+    }
 }
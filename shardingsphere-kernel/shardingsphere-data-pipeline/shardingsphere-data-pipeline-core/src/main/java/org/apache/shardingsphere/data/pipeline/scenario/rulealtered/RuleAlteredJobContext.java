@@ -95,6 +95,7 @@ public final class RuleAlteredJobContext {
         this.dataSourceManager = dataSourceManager;
         this.jobPreparer = jobPreparer;
         taskConfig = RuleAlteredJobWorker.buildTaskConfig(jobConfig, jobShardingItem, ruleAlteredContext.getOnRuleAlteredActionConfig());
+        taskConfig.getImporterConfig().setRateLimitAlgorithm(ruleAlteredContext.getOutputRateLimitAlgorithm());
     }
     
     /**
@@ -176,6 +176,8 @@ public final class RuleAlteredJobPreparer {
         TaskConfiguration taskConfig = jobContext.getTaskConfig();
         PipelineDataSourceManager dataSourceManager = jobContext.getDataSourceManager();
         taskConfig.getDumperConfig().setPosition(getIncrementalPosition(jobContext, taskConfig, dataSourceManager));
+        Integer incrementalDecodeThread = jobContext.getRuleAlteredContext().getOnRuleAlteredActionConfig().getInput().getIncrementalDecodeThread();
+        taskConfig.getDumperConfig().setIncrementalDecodeThread(null == incrementalDecodeThread ? 0 : incrementalDecodeThread);
         PipelineTableMetaDataLoader sourceMetaDataLoader = jobContext.getSourceMetaDataLoader();
         IncrementalTask incrementalTask = new IncrementalTask(taskConfig.getJobConfig().getConcurrency(),
                 taskConfig.getDumperConfig(), taskConfig.getImporterConfig(), pipelineChannelCreator, dataSourceManager, sourceMetaDataLoader, incrementalDumperExecuteEngine);
@@ -45,6 +45,7 @@ import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredC
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration.InputConfiguration;
 
 import javax.sql.DataSource;
@@ -123,6 +124,10 @@ public final class InventoryTaskSplitter {
             splitDumperConfig.setUniqueKey(dumperConfig.getUniqueKey());
             splitDumperConfig.setUniqueKeyDataType(dumperConfig.getUniqueKeyDataType());
             splitDumperConfig.setBatchSize(batchSize);
+            splitDumperConfig.setStreamingQuery(Boolean.TRUE.equals(inputConfig.getStreamingQuery()));
+            if (null != inputConfig.getStreamingQueryMaxRows()) {
+                splitDumperConfig.setStreamingQueryMaxRows(inputConfig.getStreamingQueryMaxRows());
+            }
             splitDumperConfig.setRateLimitAlgorithm(rateLimitAlgorithm);
             result.add(splitDumperConfig);
         }
@@ -154,7 +159,7 @@ public final class InventoryTaskSplitter {
         if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
             return getPositionByIntegerPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         } else if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
-            return getPositionByStringPrimaryKeyRange();
+            return getPositionByStringPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         } else {
             throw new PipelineJobCreationException(String.format("Can not split range for table %s, reason: primary key is not integer or string type", actualTableName));
         }
@@ -223,9 +228,44 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
-    private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange() {
+    private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition("!", "~"));
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String firstSQL = sqlBuilder.buildSplitByStringPrimaryKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), true);
+        String laterSQL = sqlBuilder.buildSplitByStringPrimaryKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), false);
+        int shardingSize = jobContext.getRuleAlteredContext().getOnRuleAlteredActionConfig().getInput().getShardingSize();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement firstStatement = connection.prepareStatement(firstSQL);
+                PreparedStatement laterStatement = connection.prepareStatement(laterSQL)) {
+            String lastEndValue = "";
+            for (int i = 0; i < Integer.MAX_VALUE; i++) {
+                PreparedStatement ps = 0 == i ? firstStatement : laterStatement;
+                ps.setString(1, lastEndValue);
+                ps.setLong(2, shardingSize);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next() || null == rs.getString(2)) {
+                        log.info("getPositionByStringPrimaryKeyRange, no more rows, break, tableName={}, primaryKey={}, lastEndValue={}",
+                                dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), lastEndValue);
+                        break;
+                    }
+                    String beginValue = rs.getString(1);
+                    String endValue = rs.getString(2);
+                    result.add(new StringPrimaryKeyPosition(beginValue, endValue));
+                    if (rs.getLong(3) < shardingSize) {
+                        break;
+                    }
+                    lastEndValue = endValue;
+                }
+            }
+            // fix empty table missing inventory task
+            if (0 == result.size()) {
+                result.add(new StringPrimaryKeyPosition("", ""));
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()), ex);
+        }
         return result;
     }
 }
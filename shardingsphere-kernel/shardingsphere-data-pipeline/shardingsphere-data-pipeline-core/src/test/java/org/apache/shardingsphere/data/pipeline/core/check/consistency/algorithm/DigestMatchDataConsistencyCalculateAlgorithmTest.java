@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class DigestMatchDataConsistencyCalculateAlgorithmTest {
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    private DigestMatchDataConsistencyCalculateAlgorithm algorithm;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        algorithm = new DigestMatchDataConsistencyCalculateAlgorithm();
+        algorithm.init(new Properties());
+    }
+    
+    @Test
+    public void assertCalculateSameRecords() throws SQLException {
+        PreparedStatement sourcePreparedStatement = mockPreparedStatement("foo");
+        PreparedStatement targetPreparedStatement = mockPreparedStatement("foo");
+        when(connection.prepareStatement(anyString())).thenReturn(sourcePreparedStatement, targetPreparedStatement);
+        Object source = algorithm.calculate(createParameter()).iterator().next();
+        Object target = algorithm.calculate(createParameter()).iterator().next();
+        assertThat(source, is(target));
+        assertThat(((DigestMatchDataConsistencyCalculateAlgorithm.CalculatedResult) source).getMinUniqueKeyValue(), is(1));
+        assertThat(((DigestMatchDataConsistencyCalculateAlgorithm.CalculatedResult) source).getMaxUniqueKeyValue(), is(2));
+        assertThat(((DigestMatchDataConsistencyCalculateAlgorithm.CalculatedResult) source).getRecordCount(), is(2));
+    }
+    
+    @Test
+    public void assertCalculateDifferentRecords() throws SQLException {
+        PreparedStatement sourcePreparedStatement = mockPreparedStatement("foo");
+        PreparedStatement targetPreparedStatement = mockPreparedStatement("bar");
+        when(connection.prepareStatement(anyString())).thenReturn(sourcePreparedStatement, targetPreparedStatement);
+        Object source = algorithm.calculate(createParameter()).iterator().next();
+        Object target = algorithm.calculate(createParameter()).iterator().next();
+        assertThat(source, not(target));
+    }
+    
+    @Test
+    public void assertCalculateDifferentLongValuesWithSameHashCode() throws SQLException {
+        assertCalculateDifferentValues(0L, 4294967297L);
+    }
+    
+    @Test
+    public void assertCalculateDifferentStringValuesWithSameHashCode() throws SQLException {
+        assertCalculateDifferentValues("Aa", "BB");
+    }
+    
+    @Test
+    public void assertCalculateDifferentValuesWithSameStringRepresentation() throws SQLException {
+        assertCalculateDifferentValues("1", 1);
+    }
+    
+    @Test
+    public void assertCalculateSameNumbersWithDifferentScaleAndType() throws SQLException {
+        PreparedStatement sourcePreparedStatement = mockPreparedStatement(new BigDecimal("1.0"));
+        PreparedStatement targetPreparedStatement = mockPreparedStatement(new BigDecimal("1.00"));
+        PreparedStatement integerPreparedStatement = mockPreparedStatement(1);
+        when(connection.prepareStatement(anyString())).thenReturn(sourcePreparedStatement, targetPreparedStatement, integerPreparedStatement);
+        Object source = algorithm.calculate(createParameter()).iterator().next();
+        Object target = algorithm.calculate(createParameter()).iterator().next();
+        Object integerTarget = algorithm.calculate(createParameter()).iterator().next();
+        assertThat(source, is(target));
+        assertThat(source, is(integerTarget));
+    }
+    
+    @Test
+    public void assertCalculateEmptyTable() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        when(preparedStatement.executeQuery().next()).thenReturn(false);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        Iterator<Object> actual = algorithm.calculate(createParameter()).iterator();
+        assertFalse(actual.hasNext());
+    }
+    
+    private void assertCalculateDifferentValues(final Object sourceValue, final Object targetValue) throws SQLException {
+        PreparedStatement sourcePreparedStatement = mockPreparedStatement(sourceValue);
+        PreparedStatement targetPreparedStatement = mockPreparedStatement(targetValue);
+        when(connection.prepareStatement(anyString())).thenReturn(sourcePreparedStatement, targetPreparedStatement);
+        Object source = algorithm.calculate(createParameter()).iterator().next();
+        Object target = algorithm.calculate(createParameter()).iterator().next();
+        assertThat(source, not(target));
+    }
+    
+    private DataConsistencyCalculateParameter createParameter() {
+        return new DataConsistencyCalculateParameter(pipelineDataSource, new TableNameSchemaNameMapping(Collections.singletonMap(new LogicTableName("foo_tbl"), "foo_schema")),
+                "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", "id");
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Object secondRecordValue) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(2);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1, 2);
+        when(resultSet.getObject(2)).thenReturn("foo", secondRecordValue);
+        when(resultSet.getObject("id")).thenReturn(1, 2);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
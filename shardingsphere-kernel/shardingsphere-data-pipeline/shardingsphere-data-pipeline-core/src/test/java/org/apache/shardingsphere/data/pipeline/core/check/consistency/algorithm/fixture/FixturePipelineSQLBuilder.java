@@ -36,11 +36,21 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildUnboundedInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        return "";
+    }
+    
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         return "";
     }
     
+    @Override
+    public String buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
+        return "";
+    }
+    
     @Override
     public String buildUpdateSQL(final String schemaName, final DataRecord dataRecord, final Collection<Column> conditionColumns, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         return "";
@@ -81,6 +91,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildSplitByStringPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String primaryKey, final boolean firstQuery) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
@@ -25,7 +25,6 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.config.yaml.YamlJd
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -52,6 +51,8 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
@@ -87,7 +88,8 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
         YamlJdbcConfiguration jdbcConfig = ((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig()).getJdbcConfig();
         log.info("incremental dump, jdbcUrl={}", jdbcConfig.getJdbcUrl());
         DataSourceMetaData metaData = DatabaseTypeFactory.getInstance("MySQL").getDataSourceMetaData(jdbcConfig.getJdbcUrl(), null);
-        client = new MySQLClient(new ConnectInfo(random.nextInt(), metaData.getHostname(), metaData.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword()));
+        client = new MySQLClient(new ConnectInfo(random.nextInt(), metaData.getHostname(), metaData.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword()),
+                dumperConfig.getIncrementalDecodeThread());
         catalog = metaData.getCatalog();
     }
     
@@ -133,15 +135,17 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     }
     
     private void handleWriteRowsEvent(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> records = new ArrayList<>(event.getAfterRows().size());
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.INSERT);
             for (int i = 0; i < each.length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.isUniqueKey(i)));
+                record.addColumn(columnMetaData.getName(), null, handleValue(columnMetaData, each[i]), true, tableMetaData.isUniqueKey(i));
             }
-            pushRecord(record);
+            records.add(record);
         }
+        channel.pushRecords(records);
     }
     
     private PipelineTableMetaData getPipelineTableMetaData(final String actualTableName) {
@@ -149,6 +153,7 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     }
     
     private void handleUpdateRowsEvent(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> records = new ArrayList<>(event.getBeforeRows().size());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -159,24 +164,27 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
                 Serializable newValue = afterValues[j];
                 boolean updated = !Objects.equals(newValue, oldValue);
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(j);
-                record.addColumn(new Column(columnMetaData.getName(),
+                record.addColumn(columnMetaData.getName(),
                         (columnMetaData.isPrimaryKey() && updated) ? handleValue(columnMetaData, oldValue) : null,
-                        handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey()));
+                        handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey());
             }
-            pushRecord(record);
+            records.add(record);
         }
+        channel.pushRecords(records);
     }
     
     private void handleDeleteRowsEvent(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> records = new ArrayList<>(event.getBeforeRows().size());
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.DELETE);
             for (int i = 0, length = each.length; i < length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.isUniqueKey(i)));
+                record.addColumn(columnMetaData.getName(), null, handleValue(columnMetaData, each[i]), true, tableMetaData.isUniqueKey(i));
             }
-            pushRecord(record);
+            records.add(record);
         }
+        channel.pushRecords(records);
     }
     
     private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
@@ -67,4 +67,9 @@ public final class MySQLInventoryDumper extends AbstractInventoryDumper {
         result.setFetchSize(Integer.MIN_VALUE);
         return result;
     }
+    
+    @Override
+    protected int getStreamingFetchSize(final int batchSize) {
+        return Integer.MIN_VALUE;
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.mysql.ingest.client;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
@@ -45,11 +46,14 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.que
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.net.InetSocketAddress;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -61,6 +65,10 @@ public final class MySQLClient {
     
     private final ConnectInfo connectInfo;
     
+    private final int rowsEventDecodeThreadNumber;
+    
+    private ExecutorService rowsEventDecodeExecutor;
+    
     private EventLoopGroup eventLoopGroup;
     
     private Channel channel;
@@ -75,6 +83,10 @@ public final class MySQLClient {
     
     private volatile int reconnectTimes;
     
+    public MySQLClient(final ConnectInfo connectInfo) {
+        this(connectInfo, 0);
+    }
+    
     /**
      * Connect to MySQL.
      */
@@ -188,11 +200,20 @@ public final class MySQLClient {
         responseCallback = null;
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength));
+        channel.pipeline().addLast(0 < rowsEventDecodeThreadNumber
+                ? new MySQLBinlogEventPacketDecoder(checksumLength, getRowsEventDecodeExecutor())
+                : new MySQLBinlogEventPacketDecoder(checksumLength));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
     
+    private ExecutorService getRowsEventDecodeExecutor() {
+        if (null == rowsEventDecodeExecutor) {
+            rowsEventDecodeExecutor = Executors.newFixedThreadPool(rowsEventDecodeThreadNumber, ExecutorThreadFactoryBuilder.build("binlog-rows-decode-%d"));
+        }
+        return rowsEventDecodeExecutor;
+    }
+    
     /**
      * Poll binlog event.
      *
@@ -232,11 +253,28 @@ public final class MySQLClient {
      * Close netty channel.
      */
     public void closeChannel() {
+        ExecutorService decodeExecutor = rowsEventDecodeExecutor;
+        rowsEventDecodeExecutor = null;
+        try {
+            closeAndWait();
+        } finally {
+            // shutdown after channel closed, so that decoder does not submit rows events to a terminated executor
+            if (null != decodeExecutor) {
+                decodeExecutor.shutdown();
+            }
+        }
+    }
+    
+    private void closeAndWait() {
         if (null == channel || !channel.isOpen()) {
             return;
         }
         try {
-            channel.close();
+            ChannelFuture closeFuture = channel.close();
+            // close is done synchronously on event loop, and waiting on event loop is not allowed
+            if (!channel.eventLoop().inEventLoop()) {
+                closeFuture.awaitUninterruptibly();
+            }
             // CHECKSTYLE:OFF
         } catch (final RuntimeException ex) {
             // CHECKSTYLE:ON
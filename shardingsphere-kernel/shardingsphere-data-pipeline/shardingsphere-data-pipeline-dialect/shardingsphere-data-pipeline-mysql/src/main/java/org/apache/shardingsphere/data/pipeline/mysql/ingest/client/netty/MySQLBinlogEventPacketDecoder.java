@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
@@ -38,27 +39,67 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MySQL binlog event packet decoder.
+ *
+ * <p>If rows event decode executor is present, only event framing is done on event loop, row images are decoded by the executor,
+ * and decoded events are delivered in the original binlog order by sequence number.
+ * Channel auto read is turned off while too many events are pending, so that event loop is never blocked.</p>
  */
 @Slf4j
 public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
+    private static final int MAX_PENDING_EVENTS = 1024;
+    
+    private static final int RESUME_PENDING_EVENTS = MAX_PENDING_EVENTS / 2;
+    
     private final BinlogContext binlogContext;
     
+    private final Executor rowsEventDecodeExecutor;
+    
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    
+    private final Map<Long, AbstractBinlogEvent> decodedEvents = new HashMap<>();
+    
+    private long nextSequence;
+    
+    private long nextDeliverSequence;
+    
+    private volatile boolean rowsEventDecodeFailed;
+    
+    private volatile boolean readSuspended;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength) {
+        this(checksumLength, null);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Executor rowsEventDecodeExecutor) {
         binlogContext = new BinlogContext();
         binlogContext.setChecksumLength(checksumLength);
+        this.rowsEventDecodeExecutor = rowsEventDecodeExecutor;
     }
     
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        if (rowsEventDecodeFailed) {
+            in.skipBytes(in.readableBytes());
+            return;
+        }
         // readable bytes must greater + seqId(1b) + statusCode(1b) + header-length(19b) +
         while (in.readableBytes() >= 2 + MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH) {
+            if (null != rowsEventDecodeExecutor && pendingEvents.get() >= MAX_PENDING_EVENTS) {
+                suspendRead(ctx);
+                return;
+            }
             in.markReaderIndex();
+            int eventStartIndex = in.readerIndex();
             MySQLPacketPayload payload = new MySQLPacketPayload(in, ctx.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
             skipSequenceId(payload);
             checkError(payload);
@@ -69,11 +110,52 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 in.resetReaderIndex();
                 break;
             }
-            Optional.ofNullable(decodeEvent(payload, binlogEventHeader)).ifPresent(out::add);
+            if (null == rowsEventDecodeExecutor) {
+                Optional.ofNullable(decodeEvent(payload, binlogEventHeader)).ifPresent(out::add);
+            } else {
+                decodeEventAsync(ctx, in, eventStartIndex, payload, binlogEventHeader);
+            }
             skipChecksum(binlogEventHeader.getEventType(), in);
         }
     }
     
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext ctx) throws Exception {
+        if (readSuspended) {
+            // do not let the decoder request more data while pending events are not consumed
+            discardSomeReadBytes();
+            ctx.fireChannelReadComplete();
+            return;
+        }
+        super.channelReadComplete(ctx);
+    }
+    
+    private void suspendRead(final ChannelHandlerContext ctx) {
+        if (!readSuspended) {
+            readSuspended = true;
+            ctx.channel().config().setAutoRead(false);
+        }
+    }
+    
+    private void resumeRead(final ChannelHandlerContext ctx) {
+        if (!readSuspended || pendingEvents.get() > RESUME_PENDING_EVENTS) {
+            return;
+        }
+        readSuspended = false;
+        ctx.channel().config().setAutoRead(true);
+        if (!ctx.channel().isActive()) {
+            return;
+        }
+        try {
+            // decode the remaining cumulated bytes, they may be the last events sent by server
+            channelRead(ctx, Unpooled.EMPTY_BUFFER);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ctx.fireExceptionCaught(ex);
+        }
+    }
+    
     private AbstractBinlogEvent decodeEvent(final MySQLPacketPayload payload, final MySQLBinlogEventHeader binlogEventHeader) {
         switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType())) {
             case ROTATE_EVENT:
@@ -113,6 +195,98 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         }
     }
     
+    private void decodeEventAsync(final ChannelHandlerContext ctx, final ByteBuf in, final int eventStartIndex, final MySQLPacketPayload payload, final MySQLBinlogEventHeader binlogEventHeader) {
+        if (!isRowsEvent(binlogEventHeader.getEventType())) {
+            AbstractBinlogEvent event = decodeEvent(payload, binlogEventHeader);
+            if (null != event) {
+                deliver(ctx, acquireSequence(), event);
+            }
+            return;
+        }
+        // copy whole event from the beginning, the remaining length of rows is calculated by reader index
+        int eventLength = binlogEventHeader.getEventSize() + 2 - binlogEventHeader.getChecksumLength();
+        ByteBuf rowsEventByteBuf = in.copy(eventStartIndex, eventLength);
+        rowsEventByteBuf.readerIndex(in.readerIndex() - eventStartIndex);
+        in.readerIndex(eventStartIndex + eventLength);
+        MySQLPacketPayload rowsEventPayload = new MySQLPacketPayload(rowsEventByteBuf, payload.getCharset());
+        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, rowsEventPayload);
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(rowsEventPacket.getTableId());
+        AbstractRowsEvent event = createRowsEvent(binlogEventHeader.getEventType());
+        initRowsEvent(event, binlogEventHeader, rowsEventPacket.getTableId());
+        long sequence = acquireSequence();
+        rowsEventDecodeExecutor.execute(() -> {
+            try {
+                rowsEventPacket.readRows(tableMapEventPacket, rowsEventPayload);
+                setRows(event, rowsEventPacket);
+                deliver(ctx, sequence, event);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                rowsEventDecodeFailed = true;
+                ctx.executor().execute(() -> ctx.fireExceptionCaught(ex));
+            } finally {
+                rowsEventByteBuf.release();
+            }
+        });
+    }
+    
+    private boolean isRowsEvent(final int eventType) {
+        switch (MySQLBinlogEventType.valueOf(eventType)) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+            case DELETE_ROWS_EVENTv1:
+            case DELETE_ROWS_EVENTv2:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private AbstractRowsEvent createRowsEvent(final int eventType) {
+        switch (MySQLBinlogEventType.valueOf(eventType)) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+                return new WriteRowsEvent();
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+                return new UpdateRowsEvent();
+            default:
+                return new DeleteRowsEvent();
+        }
+    }
+    
+    private void setRows(final AbstractRowsEvent rowsEvent, final MySQLBinlogRowsEventPacket rowsEventPacket) {
+        if (rowsEvent instanceof WriteRowsEvent) {
+            ((WriteRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows());
+        } else if (rowsEvent instanceof UpdateRowsEvent) {
+            ((UpdateRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+            ((UpdateRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows2());
+        } else {
+            ((DeleteRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+        }
+    }
+    
+    private long acquireSequence() {
+        pendingEvents.incrementAndGet();
+        return nextSequence++;
+    }
+    
+    private synchronized void deliver(final ChannelHandlerContext ctx, final long sequence, final AbstractBinlogEvent event) {
+        decodedEvents.put(sequence, event);
+        AbstractBinlogEvent each;
+        while (null != (each = decodedEvents.remove(nextDeliverSequence))) {
+            nextDeliverSequence++;
+            AbstractBinlogEvent deliverEvent = each;
+            // always go through event loop task queue, so that events fired by worker threads and event loop keep the same order
+            ctx.executor().execute(() -> ctx.fireChannelRead(deliverEvent));
+            if (RESUME_PENDING_EVENTS == pendingEvents.decrementAndGet() && readSuspended) {
+                ctx.executor().execute(() -> resumeRead(ctx));
+            }
+        }
+    }
+    
     private void skipSequenceId(final MySQLPacketPayload payload) {
         payload.readInt1();
     }
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.client;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.Promise;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
@@ -35,6 +37,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -52,6 +56,12 @@ public final class MySQLClientTest {
     @Mock
     private ChannelPipeline pipeline;
     
+    @Mock
+    private ChannelFuture closeFuture;
+    
+    @Mock
+    private EventLoop eventLoop;
+    
     private MySQLClient mysqlClient;
     
     @Before
@@ -61,8 +71,9 @@ public final class MySQLClientTest {
         when(channel.isOpen()).thenReturn(true);
         when(channel.close()).thenAnswer(invocation -> {
             when(channel.isOpen()).thenReturn(false);
-            return null;
+            return closeFuture;
         });
+        when(channel.eventLoop()).thenReturn(eventLoop);
         when(channel.localAddress()).thenReturn(new InetSocketAddress("host", 3306));
     }
     
@@ -143,6 +154,21 @@ public final class MySQLClientTest {
         ReflectionUtil.setFieldValue(mysqlClient, "channel", channel);
         mysqlClient.closeChannel();
         assertFalse(channel.isOpen());
+        verify(closeFuture).awaitUninterruptibly();
+    }
+    
+    @Test
+    public void assertCloseChannelBeforeShutdownRowsEventDecodeExecutor() throws NoSuchFieldException, IllegalAccessException {
+        ExecutorService rowsEventDecodeExecutor = Executors.newSingleThreadExecutor();
+        ReflectionUtil.setFieldValue(mysqlClient, "channel", channel);
+        ReflectionUtil.setFieldValue(mysqlClient, "rowsEventDecodeExecutor", rowsEventDecodeExecutor);
+        when(closeFuture.awaitUninterruptibly()).thenAnswer(invocation -> {
+            assertFalse(rowsEventDecodeExecutor.isShutdown());
+            return closeFuture;
+        });
+        mysqlClient.closeChannel();
+        verify(closeFuture).awaitUninterruptibly();
+        assertTrue(rowsEventDecodeExecutor.isShutdown());
     }
     
     @Test(expected = PipelineJobExecutionException.class)
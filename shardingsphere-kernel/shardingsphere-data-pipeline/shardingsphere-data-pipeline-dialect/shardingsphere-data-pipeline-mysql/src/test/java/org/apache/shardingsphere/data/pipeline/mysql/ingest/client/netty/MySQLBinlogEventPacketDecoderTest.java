@@ -22,6 +22,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.internal.StringUtil;
 import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
@@ -36,17 +37,24 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -191,4 +199,60 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(decodedEvents.size(), is(1));
         assertThat(byteBuf.readerIndex(), is(completeData.length));
     }
+    
+    @Test
+    public void assertDecodeRowsEventsInParallelKeepOrder() throws NoSuchFieldException, IllegalAccessException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, executor);
+            BinlogContext parallelBinlogContext = ReflectionUtil.getFieldValue(decoder, "binlogContext", BinlogContext.class);
+            parallelBinlogContext.getTableMap().put(123L, tableMapEventPacket);
+            parallelBinlogContext.getTableMap().put(116L, tableMapEventPacket);
+            when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+            when(channelHandlerContext.executor()).thenReturn(ImmediateEventExecutor.INSTANCE);
+            List<Object> decodedEvents = new LinkedList<>();
+            ByteBuf writeRowsByteBuf = ByteBufAllocator.DEFAULT.buffer();
+            writeRowsByteBuf.writeBytes(StringUtil.decodeHexDump("30007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+            decoder.decode(channelHandlerContext, writeRowsByteBuf, decodedEvents);
+            ByteBuf deleteRowsByteBuf = ByteBufAllocator.DEFAULT.buffer();
+            deleteRowsByteBuf.writeBytes(StringUtil.decodeHexDump("51002a80a862200100000038000000c569000000007400000000000100020004ff0801000000000000000100000007535543434553531c9580c5"));
+            decoder.decode(channelHandlerContext, deleteRowsByteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(0));
+            assertThat(writeRowsByteBuf.readableBytes(), is(0));
+            assertThat(deleteRowsByteBuf.readableBytes(), is(0));
+            ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+            verify(channelHandlerContext, timeout(5000).times(2)).fireChannelRead(eventCaptor.capture());
+            assertThat(eventCaptor.getAllValues().get(0), instanceOf(WriteRowsEvent.class));
+            assertThat(((WriteRowsEvent) eventCaptor.getAllValues().get(0)).getAfterRows().get(0), is(new Serializable[]{1L, 1, "SUCCESS", null}));
+            assertThat(eventCaptor.getAllValues().get(1), instanceOf(DeleteRowsEvent.class));
+            assertThat(((DeleteRowsEvent) eventCaptor.getAllValues().get(1)).getBeforeRows().get(0), is(new Serializable[]{1L, 1, "SUCCESS", null}));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertSuspendAndResumeReadWhenTooManyPendingEvents() throws NoSuchFieldException, IllegalAccessException {
+        List<Runnable> decodeTasks = new ArrayList<>();
+        MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, decodeTasks::add);
+        ReflectionUtil.getFieldValue(decoder, "binlogContext", BinlogContext.class).getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        when(channelHandlerContext.executor()).thenReturn(ImmediateEventExecutor.INSTANCE);
+        byte[] writeRowsEvent = StringUtil.decodeHexDump("30007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff");
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        for (int i = 0; i < 1025; i++) {
+            byteBuf.writeBytes(writeRowsEvent);
+        }
+        decoder.decode(channelHandlerContext, byteBuf, new LinkedList<>());
+        assertThat(decodeTasks.size(), is(1024));
+        assertThat(byteBuf.readableBytes(), is(writeRowsEvent.length));
+        verify(channelHandlerContext.channel().config()).setAutoRead(false);
+        for (int i = 0; i < 511; i++) {
+            decodeTasks.get(i).run();
+        }
+        verify(channelHandlerContext.channel().config(), never()).setAutoRead(true);
+        decodeTasks.get(511).run();
+        verify(channelHandlerContext.channel().config()).setAutoRead(true);
+        byteBuf.release();
+    }
 }
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal;
 
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
@@ -113,7 +112,7 @@ public final class WalEventConverter {
         // TODO Unique key may be a column within unique index
         List<String> primaryKeyColumns = getPipelineTableMetaData(event.getTableName()).getPrimaryKeyColumns();
         for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            result.addColumn(new Column(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), true, true));
+            result.addColumn(primaryKeyColumns.get(i), null, event.getPrimaryKeys().get(i), true, true);
         }
         return result;
     }
@@ -128,8 +127,7 @@ public final class WalEventConverter {
         for (int i = 0, count = values.size(); i < count; i++) {
             boolean isUniqueKey = tableMetaData.isUniqueKey(i);
             Object uniqueKeyOldValue = isUniqueKey ? values.get(i) : null;
-            Column column = new Column(tableMetaData.getColumnMetaData(i).getName(), uniqueKeyOldValue, values.get(i), true, isUniqueKey);
-            dataRecord.addColumn(column);
+            dataRecord.addColumn(tableMetaData.getColumnMetaData(i).getName(), uniqueKeyOldValue, values.get(i), true, isUniqueKey);
         }
     }
 }
@@ -24,10 +24,12 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -75,7 +77,9 @@ public final class ContextManager implements AutoCloseable {
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        executorEngine = ExecutorEngine.createExecutorEngineWithSize(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                ExecutorServiceType.valueFrom(props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE)));
     }
     
     /**
@@ -85,6 +89,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
         this.metaDataContexts = metaDataContexts;
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -125,6 +130,7 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getMetaData().dropDatabase(databaseName);
         metaDataContexts.getOptimizerContext().dropDatabase(databaseName);
         metaDataContexts.getPersistService().getDatabaseMetaDataService().deleteDatabase(databaseName);
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -139,6 +145,7 @@ public final class ContextManager implements AutoCloseable {
         }
         metaDataContexts.getMetaData().getDatabases().get(databaseName).getSchemas().put(schemaName, new ShardingSphereSchema());
         metaDataContexts.getOptimizerContext().addSchema(databaseName, schemaName);
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -154,6 +161,7 @@ public final class ContextManager implements AutoCloseable {
             Optional.ofNullable(toBeChangedTable).ifPresent(optional -> alterTable(databaseName, schemaName, optional));
             Optional.ofNullable(toBeDeletedTableName).ifPresent(optional -> dropTable(databaseName, schemaName, optional));
         }
+        ExecutionPlanCache.clear();
     }
     
     private synchronized void alterTable(final String databaseName, final String schemaName, final ShardingSphereTable beBoChangedTable) {
@@ -193,6 +201,7 @@ public final class ContextManager implements AutoCloseable {
         }
         database.getSchemas().remove(schemaName);
         metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName).removeSchemaMetadata(schemaName);
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -210,6 +219,7 @@ public final class ContextManager implements AutoCloseable {
         persistMetaData(metaDataContexts);
         metaDataContexts.getPersistService().getDataSourceService().append(databaseName, toBeUpdatedDataSourcePropsMap);
         switchingResource.closeStaleDataSources();
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -225,6 +235,7 @@ public final class ContextManager implements AutoCloseable {
             dataSourceMap.remove(each);
         }
         metaDataContexts.getPersistService().getDataSourceService().drop(databaseName, toBeDroppedResourceNames);
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -243,6 +254,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -263,6 +275,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source configuration failed", databaseName, ex);
         }
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -285,6 +298,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (SQLException ex) {
             log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
         }
+        ExecutionPlanCache.clear();
     }
     
     @SuppressWarnings("rawtypes")
@@ -339,6 +353,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), toBeChangedGlobalRuleMetaData, metaDataContexts.getMetaData().getProps());
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData, metaDataContexts.getOptimizerContext());
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -350,6 +365,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData, metaDataContexts.getOptimizerContext());
+        ExecutionPlanCache.clear();
     }
     
     /**
@@ -369,6 +385,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Reload database: {} failed", databaseName, ex);
         }
+        ExecutionPlanCache.clear();
     }
     
     private Map<String, ShardingSphereSchema> getToBeDeletedSchemas(final ShardingSphereDatabase reloadedDatabase) {
@@ -401,6 +418,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
         }
+        ExecutionPlanCache.clear();
     }
     
     private ShardingSphereSchema loadSchema(final String databaseName, final String schemaName, final String dataSourceName) throws SQLException {
@@ -455,6 +473,7 @@ public final class ContextManager implements AutoCloseable {
             database.getSchemas().get(schemaName).put(tableName, schema.get(tableName));
             metaDataContexts.getPersistService().getDatabaseMetaDataService().persistMetaData(databaseName, schemaName, database.getSchemas().get(schemaName));
         }
+        ExecutionPlanCache.clear();
     }
     
     @Override
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.manager;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -267,6 +268,22 @@ public final class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts().getMetaData().getProps().getProps().getProperty("foo"), is("foo_value"));
     }
     
+    @Test
+    public void assertAlterPropertiesWithExecutionPlanCacheCleared() {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabases().get("foo_db");
+        ExecutionPlanCache.getInstance(database, 16);
+        contextManager.alterProperties(new Properties());
+        assertFalse(ExecutionPlanCache.find(database).isPresent());
+    }
+    
+    @Test
+    public void assertAlterSchemaWithExecutionPlanCacheCleared() {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabases().get("foo_db");
+        ExecutionPlanCache.getInstance(database, 16);
+        contextManager.alterSchema("foo_db", "foo_schema", null, "foo_tbl");
+        assertFalse(ExecutionPlanCache.find(database).isPresent());
+    }
+    
     @Test
     public void assertReloadDatabase() {
         when(metaDataContexts.getMetaData().getDatabases().get("foo_db").getResource().getDataSources()).thenReturn(Collections.singletonMap("foo_ds", new MockedDataSource()));
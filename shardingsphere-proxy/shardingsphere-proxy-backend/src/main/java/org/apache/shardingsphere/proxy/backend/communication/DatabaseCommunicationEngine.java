@@ -196,6 +196,23 @@ public abstract class DatabaseCommunicationEngine<T> {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get row values.
+     * 
+     * <p>Values are read from merged result into the returned list directly, no query response cell is created for each value.</p>
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    public List<Object> getRowValues() throws SQLException {
+        int columnCount = queryHeaders.size();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
+    
     protected void checkLockedDatabase(final ExecutionContext executionContext) {
         if (lockJudgeEngine.isLocked(backendConnection.getConnectionSession().getDatabaseName(), executionContext.getSqlStatementContext())) {
             throw new UnsupportedUpdateOperationException(backendConnection.getConnectionSession().getDatabaseName());
@@ -42,6 +42,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.ProxySQLExecutor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
@@ -181,6 +182,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
      */
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -191,6 +193,20 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        if (null == getMergedResult()) {
+            return Collections.emptyList();
+        }
+        try {
+            getMergedResult().close();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        } finally {
+            setMergedResult(null);
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -206,7 +222,11 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     
     private Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
+        PreparedStatementCache preparedStatementCache = backendConnection.getPreparedStatementCache();
         for (Statement each : cachedStatements) {
+            if (null != preparedStatementCache && preparedStatementCache.release(each)) {
+                continue;
+            }
             try {
                 each.cancel();
                 each.close();
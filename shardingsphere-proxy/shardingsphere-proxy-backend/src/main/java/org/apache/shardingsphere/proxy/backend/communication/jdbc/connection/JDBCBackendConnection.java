@@ -23,6 +23,7 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
@@ -32,16 +33,22 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.JD
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ReplayedSessionVariable;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtil;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -69,46 +76,75 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     private final AtomicBoolean closed = new AtomicBoolean(false);
     
+    private volatile PreparedStatementCache preparedStatementCache;
+    
+    private final Map<String, ReplayedSessionVariable> uncommittedSessionVariables = new LinkedHashMap<>();
+    
+    private final Collection<String> uncommittedResetSessionVariableNames = new LinkedHashSet<>();
+    
+    private final Map<String, ReplayedSessionVariable> rolledBackSessionVariables = new LinkedHashMap<>();
+    
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        Collection<Connection> connections;
+        List<Connection> result = new ArrayList<>(connectionSize);
         synchronized (cachedConnections) {
-            connections = cachedConnections.get(dataSourceName);
-        }
-        List<Connection> result;
-        if (connections.size() >= connectionSize) {
-            result = new ArrayList<>(connections).subList(0, connectionSize);
-        } else if (!connections.isEmpty()) {
-            result = new ArrayList<>(connectionSize);
-            result.addAll(connections);
-            List<Connection> newConnections = createNewConnections(dataSourceName, connectionSize - connections.size(), connectionMode);
-            result.addAll(newConnections);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, newConnections);
-            }
-        } else {
-            result = createNewConnections(dataSourceName, connectionSize, connectionMode);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, result);
+            for (Connection each : cachedConnections.get(dataSourceName)) {
+                if (result.size() == connectionSize) {
+                    break;
+                }
+                result.add(each);
             }
         }
+        if (result.size() == connectionSize) {
+            return result;
+        }
+        // acquire from pool outside of the lock, so that slow pool will not block reading or closing cached connections
+        List<Connection> newConnections = createNewConnections(dataSourceName, connectionSize - result.size(), connectionMode);
+        synchronized (cachedConnections) {
+            cachedConnections.putAll(dataSourceName, newConnections);
+        }
+        result.addAll(newConnections);
         return result;
     }
     
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current schema is null.");
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName(), dataSourceName, connectionSize, connectionMode);
-        for (Connection each : result) {
-            replayTransactionOption(each);
-        }
-        if (connectionSession.getTransactionStatus().isInTransaction()) {
+        boolean replayed = false;
+        try {
+            Collection<ReplayedSessionVariable> sessionVariables = getSessionVariables().values();
             for (Connection each : result) {
-                replayMethodsInvocation(each);
+                replayTransactionOption(each);
+                replaySessionVariables(each, sessionVariables);
+            }
+            if (connectionSession.getTransactionStatus().isInTransaction()) {
+                for (Connection each : result) {
+                    replayMethodsInvocation(each);
+                }
+            }
+            replayed = true;
+        } finally {
+            if (!replayed) {
+                abortConnections(result);
             }
         }
         return result;
     }
     
+    private void abortConnections(final Collection<Connection> connections) {
+        for (Connection each : connections) {
+            try {
+                // session state may be replayed partially, so the physical connection must not go back to pool
+                each.abort(Runnable::run);
+            } catch (final SQLException ignored) {
+            }
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
     private void replayMethodsInvocation(final Connection target) {
         for (ConnectionPostProcessor<Connection> each : connectionPostProcessors) {
             each.process(target);
@@ -127,6 +163,114 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         }
     }
     
+    private void replaySessionVariables(final Connection connection, final Collection<ReplayedSessionVariable> sessionVariables) throws SQLException {
+        for (ReplayedSessionVariable each : sessionVariables) {
+            executeSessionVariableSQL(connection, each.getSetSQL());
+        }
+    }
+    
+    private Map<String, ReplayedSessionVariable> getSessionVariables() {
+        synchronized (cachedConnections) {
+            Map<String, ReplayedSessionVariable> result = new LinkedHashMap<>(connectionSession.getReplayedSessionVariables());
+            result.keySet().removeAll(uncommittedResetSessionVariableNames);
+            result.putAll(uncommittedSessionVariables);
+            return result;
+        }
+    }
+    
+    private void executeSessionVariableSQL(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
+    /**
+     * Set session variable, which is replayed on connections held now and acquired later.
+     * 
+     * <p>Session variable set in transaction is recorded to connection session after the transaction is committed.</p>
+     *
+     * @param variableName variable name
+     * @param variable replayed session variable
+     * @throws SQLException SQL exception
+     */
+    public void setSessionVariable(final String variableName, final ReplayedSessionVariable variable) throws SQLException {
+        synchronized (cachedConnections) {
+            if (connectionSession.getTransactionStatus().isInTransaction()) {
+                uncommittedResetSessionVariableNames.remove(variableName);
+                uncommittedSessionVariables.put(variableName, variable);
+            } else {
+                connectionSession.getReplayedSessionVariables().put(variableName, variable);
+            }
+            for (Connection each : cachedConnections.values()) {
+                executeSessionVariableSQL(each, variable.getSetSQL());
+            }
+        }
+    }
+    
+    /**
+     * Reset session variable to default value of backend database.
+     *
+     * @param variableName variable name
+     * @throws SQLException SQL exception
+     */
+    public void resetSessionVariable(final String variableName) throws SQLException {
+        synchronized (cachedConnections) {
+            ReplayedSessionVariable variable = getSessionVariables().get(variableName);
+            if (null == variable) {
+                return;
+            }
+            if (connectionSession.getTransactionStatus().isInTransaction()) {
+                uncommittedSessionVariables.remove(variableName);
+                if (connectionSession.getReplayedSessionVariables().containsKey(variableName)) {
+                    uncommittedResetSessionVariableNames.add(variableName);
+                }
+            } else {
+                connectionSession.getReplayedSessionVariables().remove(variableName);
+            }
+            for (Connection each : cachedConnections.values()) {
+                executeSessionVariableSQL(each, variable.getResetSQL());
+            }
+        }
+    }
+    
+    /**
+     * Reset all session variables to default value of backend database.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void resetAllSessionVariables() throws SQLException {
+        synchronized (cachedConnections) {
+            for (String each : getSessionVariables().keySet()) {
+                resetSessionVariable(each);
+            }
+        }
+    }
+    
+    /**
+     * Record session variables set in transaction to connection session, it must be called after transaction committed.
+     */
+    public void commitSessionVariables() {
+        synchronized (cachedConnections) {
+            connectionSession.getReplayedSessionVariables().keySet().removeAll(uncommittedResetSessionVariableNames);
+            connectionSession.getReplayedSessionVariables().putAll(uncommittedSessionVariables);
+            uncommittedResetSessionVariableNames.clear();
+            uncommittedSessionVariables.clear();
+        }
+    }
+    
+    /**
+     * Discard session variables set in transaction, it must be called after transaction rolled back.
+     * 
+     * <p>Some databases such as MySQL do not roll back session variables, so they are still reset before connections are released.</p>
+     */
+    public void rollbackSessionVariables() {
+        synchronized (cachedConnections) {
+            rolledBackSessionVariables.putAll(uncommittedSessionVariables);
+            uncommittedResetSessionVariableNames.clear();
+            uncommittedSessionVariables.clear();
+        }
+    }
+    
     /**
      * Whether execute SQL serial or not.
      *
@@ -137,13 +281,37 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
                 && (TransactionType.LOCAL == connectionSession.getTransactionStatus().getTransactionType() || TransactionType.XA == connectionSession.getTransactionStatus().getTransactionType());
     }
     
+    /**
+     * Find prepared statement cache.
+     * 
+     * <p>Connections are released after each execution out of connection held transaction, so statements are only cached in connection held transaction.</p>
+     *
+     * @return prepared statement cache
+     */
+    public Optional<PreparedStatementCache> findPreparedStatementCache() {
+        if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction()) {
+            return Optional.empty();
+        }
+        if (null == preparedStatementCache) {
+            int cacheSize =
+                    ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_STATEMENT_CACHE_SIZE);
+            if (cacheSize <= 0) {
+                return Optional.empty();
+            }
+            preparedStatementCache = new PreparedStatementCache(cacheSize);
+        }
+        return Optional.of(preparedStatementCache);
+    }
+    
     /**
      * Get connection size.
      *
      * @return connection size
      */
     public int getConnectionSize() {
-        return cachedConnections.values().size();
+        synchronized (cachedConnections) {
+            return cachedConnections.size();
+        }
     }
     
     /**
@@ -252,17 +420,27 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
         synchronized (cachedConnections) {
+            if (null != preparedStatementCache) {
+                preparedStatementCache.clear();
+            }
+            Collection<String> resetSQLs = getResetSessionVariableSQLs();
             for (Connection each : cachedConnections.values()) {
                 try {
                     if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                         each.rollback();
                     }
+                } catch (final SQLException ex) {
+                    result.add(ex);
+                }
+                result.addAll(resetSessionVariables(each, resetSQLs));
+                try {
                     each.close();
                 } catch (final SQLException ex) {
                     result.add(ex);
                 }
             }
             cachedConnections.clear();
+            rolledBackSessionVariables.clear();
         }
         if (!forceRollback) {
             connectionPostProcessors.clear();
@@ -270,6 +448,37 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         return result;
     }
     
+    private Collection<String> getResetSessionVariableSQLs() {
+        Map<String, ReplayedSessionVariable> sessionVariables = new LinkedHashMap<>(connectionSession.getReplayedSessionVariables());
+        sessionVariables.putAll(rolledBackSessionVariables);
+        sessionVariables.putAll(uncommittedSessionVariables);
+        Collection<String> result = new LinkedList<>();
+        for (ReplayedSessionVariable each : sessionVariables.values()) {
+            result.add(each.getResetSQL());
+        }
+        return result;
+    }
+    
+    private Collection<SQLException> resetSessionVariables(final Connection connection, final Collection<String> resetSQLs) {
+        Collection<SQLException> result = new LinkedList<>();
+        for (String each : resetSQLs) {
+            try {
+                executeSessionVariableSQL(connection, each);
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        if (!result.isEmpty()) {
+            // connections are returned to pool shared by all sessions, so the physical connection is aborted instead of leaking session variables to others
+            try {
+                connection.abort(Runnable::run);
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Close federation executor.
      * 
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * LRU cache of physical prepared statements held by backend connection.
+ *
+ * <p>A cached statement is borrowed by one execution at a time and returned by {@link #release(Statement)}.
+ * Statements evicted while borrowed are closed when they are released.</p>
+ */
+@Slf4j
+public final class PreparedStatementCache {
+    
+    private final int capacity;
+    
+    private final Map<CacheKey, PreparedStatement> cachedStatements;
+    
+    private final Map<Statement, CacheKey> borrowedStatements = new IdentityHashMap<>();
+    
+    public PreparedStatementCache(final int capacity) {
+        this.capacity = capacity;
+        cachedStatements = new LinkedHashMap<CacheKey, PreparedStatement>(16, 0.75F, true) {
+            
+            @Override
+            protected boolean removeEldestEntry(final Entry<CacheKey, PreparedStatement> eldest) {
+                if (size() <= PreparedStatementCache.this.capacity) {
+                    return false;
+                }
+                if (!borrowedStatements.containsKey(eldest.getValue())) {
+                    closeQuietly(eldest.getValue());
+                }
+                return true;
+            }
+        };
+    }
+    
+    /**
+     * Borrow cached prepared statement.
+     *
+     * @param connection connection which prepared the statement
+     * @param sql SQL of the statement
+     * @param returnGeneratedKeys whether statement returns generated keys
+     * @param connectionMode connection mode
+     * @return borrowed prepared statement, empty if not cached or in use
+     * @throws SQLException SQL exception
+     */
+    public synchronized Optional<PreparedStatement> borrow(final Connection connection, final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode) throws SQLException {
+        CacheKey key = new CacheKey(connection, sql, returnGeneratedKeys, connectionMode);
+        PreparedStatement result = cachedStatements.get(key);
+        if (null == result || borrowedStatements.containsKey(result)) {
+            return Optional.empty();
+        }
+        if (result.isClosed()) {
+            cachedStatements.remove(key);
+            return Optional.empty();
+        }
+        borrowedStatements.put(result, key);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Put newly prepared statement into cache and borrow it.
+     *
+     * @param connection connection which prepared the statement
+     * @param sql SQL of the statement
+     * @param returnGeneratedKeys whether statement returns generated keys
+     * @param connectionMode connection mode
+     * @param statement prepared statement
+     */
+    public synchronized void put(final Connection connection, final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode, final PreparedStatement statement) {
+        CacheKey key = new CacheKey(connection, sql, returnGeneratedKeys, connectionMode);
+        if (cachedStatements.containsKey(key)) {
+            return;
+        }
+        borrowedStatements.put(statement, key);
+        cachedStatements.put(key, statement);
+    }
+    
+    /**
+     * Release borrowed statement.
+     *
+     * @param statement statement to be released
+     * @return whether the statement is owned by cache, caller should close the statement by itself if it is not owned by cache
+     */
+    public synchronized boolean release(final Statement statement) {
+        CacheKey key = borrowedStatements.remove(statement);
+        if (null == key) {
+            return false;
+        }
+        if (statement != cachedStatements.get(key)) {
+            closeQuietly(statement);
+        }
+        return true;
+    }
+    
+    /**
+     * Close all cached statements and clear cache, it must be called before connections are released.
+     */
+    public synchronized void clear() {
+        for (Entry<Statement, CacheKey> entry : borrowedStatements.entrySet()) {
+            if (entry.getKey() != cachedStatements.get(entry.getValue())) {
+                closeQuietly(entry.getKey());
+            }
+        }
+        cachedStatements.values().forEach(this::closeQuietly);
+        cachedStatements.clear();
+        borrowedStatements.clear();
+    }
+    
+    /**
+     * Get cached statements size.
+     *
+     * @return cached statements size
+     */
+    public synchronized int size() {
+        return cachedStatements.size();
+    }
+    
+    private void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ex) {
+            log.warn("Close cached prepared statement failed.", ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+        
+        private final ConnectionMode connectionMode;
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
@@ -48,6 +49,25 @@ public final class ResourceLock {
         }
     }
     
+    /**
+     * Await until stop condition is satisfied.
+     * 
+     * <p>Stop condition is checked while holding the lock, so notification between checking and awaiting will not be missed.</p>
+     *
+     * @param stopCondition stop condition
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void doAwait(final BooleanSupplier stopCondition) {
+        lock.lock();
+        try {
+            while (!stopCondition.getAsBoolean()) {
+                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Notify.
      */
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.MapMaker;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
@@ -32,12 +33,17 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Backend data source of JDBC.
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private final Map<DataSource, Lock> dataSourceLocks = new MapMaker().weakKeys().makeMap();
+    
     /**
      * Get connections.
      *
@@ -64,7 +70,6 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
         DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().get(databaseName).getResource().getDataSources().get(dataSourceName);
@@ -81,8 +86,13 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
+        // acquire multiple connections of same data source one by one to avoid deadlock of connection pool
+        Lock lock = dataSourceLocks.computeIfAbsent(dataSource, unused -> new ReentrantLock());
+        lock.lock();
+        try {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementDatabaseHolder;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.sql.Connection;
@@ -45,6 +47,8 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
     
     private String databaseName;
     
+    private JDBCBackendConnection backendConnection;
+    
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         Statement result = connection.createStatement();
@@ -58,9 +62,7 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
     public Statement createStorageResource(final ExecutionUnit executionUnit, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> parameters = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = prepareStatement(connection, sql, connectionMode, option);
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -75,6 +77,21 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        Optional<PreparedStatementCache> preparedStatementCache = null == backendConnection ? Optional.empty() : backendConnection.findPreparedStatementCache();
+        if (preparedStatementCache.isPresent()) {
+            Optional<PreparedStatement> cached = preparedStatementCache.get().borrow(connection, sql, option.isReturnGeneratedKeys(), connectionMode);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        PreparedStatement result = option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        if (preparedStatementCache.isPresent()) {
+            preparedStatementCache.get().put(connection, sql, option.isReturnGeneratedKeys(), connectionMode, result);
+        }
+        return result;
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getContextManager().getMetaDataContexts()
                 .getMetaData().getDatabases().get(null == databaseName ? SQLStatementDatabaseHolder.get() : databaseName).getResource().getDatabaseType();
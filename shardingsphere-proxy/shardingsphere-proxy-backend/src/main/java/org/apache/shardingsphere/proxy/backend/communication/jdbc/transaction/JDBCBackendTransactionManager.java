@@ -74,13 +74,20 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
     @Override
     public Void commit() throws SQLException {
         if (connection.getConnectionSession().getTransactionStatus().isInTransaction()) {
+            boolean committed = false;
             try {
                 if (TransactionType.LOCAL == transactionType || null == shardingSphereTransactionManager) {
                     localTransactionManager.commit();
                 } else {
                     shardingSphereTransactionManager.commit(connection.getConnectionSession().getTransactionStatus().isRollbackOnly());
                 }
+                committed = !connection.getConnectionSession().getTransactionStatus().isRollbackOnly();
             } finally {
+                if (committed) {
+                    connection.commitSessionVariables();
+                } else {
+                    connection.rollbackSessionVariables();
+                }
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
@@ -100,6 +107,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
                     shardingSphereTransactionManager.rollback();
                 }
             } finally {
+                connection.rollbackSessionVariables();
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
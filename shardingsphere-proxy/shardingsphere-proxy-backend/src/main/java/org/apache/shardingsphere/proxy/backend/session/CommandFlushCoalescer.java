@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command flush coalescer for {@link ConnectionSession}.
+ * 
+ * <p>Responses of pipelined commands are written without flush, and flushed once when no more commands are pending
+ * or the outbound buffer of channel is above its high water mark.</p>
+ */
+public final class CommandFlushCoalescer {
+    
+    private static final LongAdder FLUSH_COUNT = new LongAdder();
+    
+    private static final LongAdder COALESCED_FLUSH_COUNT = new LongAdder();
+    
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
+    
+    private final AtomicBoolean unflushed = new AtomicBoolean();
+    
+    /**
+     * Mark a command received, it must be called before the command is submitted to execute.
+     */
+    public void commandReceived() {
+        pendingCommandCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark a command rejected, it must be called if the received command failed to be submitted to execute.
+     */
+    public void commandRejected() {
+        pendingCommandCount.decrementAndGet();
+    }
+    
+    /**
+     * Mark a command completed and judge whether written responses should be flushed now.
+     *
+     * @param responseWritten whether the command wrote responses without flush
+     * @param channelWritable whether channel is writable
+     * @return should flush or not
+     */
+    public boolean commandCompleted(final boolean responseWritten, final boolean channelWritable) {
+        if (responseWritten) {
+            unflushed.set(true);
+        }
+        if ((pendingCommandCount.decrementAndGet() <= 0 || !channelWritable) && unflushed.getAndSet(false)) {
+            FLUSH_COUNT.increment();
+            return true;
+        }
+        if (responseWritten) {
+            COALESCED_FLUSH_COUNT.increment();
+        }
+        return false;
+    }
+    
+    /**
+     * Get count of flushes issued for command responses.
+     *
+     * @return flush count
+     */
+    public static long getFlushCount() {
+        return FLUSH_COUNT.sum();
+    }
+    
+    /**
+     * Get count of command responses whose flushes were coalesced into a later flush.
+     *
+     * @return coalesced flush count
+     */
+    public static long getCoalescedFlushCount() {
+        return COALESCED_FLUSH_COUNT.sum();
+    }
+}
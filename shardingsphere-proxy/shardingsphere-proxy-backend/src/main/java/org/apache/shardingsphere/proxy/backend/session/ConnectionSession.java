@@ -77,6 +77,10 @@ public final class ConnectionSession {
     
     private final PreparedStatementRegistry preparedStatementRegistry = new PreparedStatementRegistry();
     
+    private final Map<String, ReplayedSessionVariable> replayedSessionVariables = new ConcurrentHashMap<>();
+    
+    private final CommandFlushCoalescer commandFlushCoalescer = new CommandFlushCoalescer();
+    
     public ConnectionSession(final DatabaseType databaseType, final TransactionType initialTransactionType, final AttributeMap attributeMap) {
         this.databaseType = databaseType;
         transactionStatus = new TransactionStatus(initialTransactionType);
@@ -92,7 +96,12 @@ public final class ConnectionSession {
     
     private ExecutorStatementManager determineStatementManager() {
         String proxyBackendDriverType = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE);
-        return "ExperimentalVertx".equals(proxyBackendDriverType) ? new VertxBackendStatement() : new JDBCBackendStatement();
+        if ("ExperimentalVertx".equals(proxyBackendDriverType)) {
+            return new VertxBackendStatement();
+        }
+        JDBCBackendStatement result = new JDBCBackendStatement();
+        result.setBackendConnection((JDBCBackendConnection) backendConnection);
+        return result;
     }
     
     /**
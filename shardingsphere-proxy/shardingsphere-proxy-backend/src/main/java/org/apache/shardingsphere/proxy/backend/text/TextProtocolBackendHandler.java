@@ -22,6 +22,7 @@ import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 
 /**
@@ -70,6 +71,16 @@ public interface TextProtocolBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row values.
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    default Collection<Object> getRowValues() throws SQLException {
+        return getRowData().getData();
+    }
+    
     /**
      * Close handler.
      *
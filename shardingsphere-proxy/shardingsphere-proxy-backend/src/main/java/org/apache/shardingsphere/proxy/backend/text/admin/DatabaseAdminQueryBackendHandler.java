@@ -35,6 +35,7 @@ import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdmin
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -83,4 +84,14 @@ public final class DatabaseAdminQueryBackendHandler implements TextProtocolBacke
         }
         return new QueryResponseRow(result);
     }
+    
+    @Override
+    public Collection<Object> getRowValues() throws SQLException {
+        int columnCount = queryResultMetaData.getColumnCount();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
 }
@@ -17,10 +17,18 @@
 
 package org.apache.shardingsphere.proxy.backend.text.admin.mysql;
 
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ReplayedSessionVariable;
+import org.apache.shardingsphere.spi.type.typed.TypedSPIRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 
+import java.sql.SQLException;
 import java.util.stream.Collectors;
 
 /**
@@ -31,9 +39,39 @@ public final class DefaultMySQLSessionVariableHandler implements MySQLSessionVar
     
     @Override
     public void handle(final ConnectionSession connectionSession, final SetStatement setStatement) {
+        if (connectionSession.getBackendConnection() instanceof JDBCBackendConnection && isSessionVariablesReplayEnabled()) {
+            replaySessionVariables((JDBCBackendConnection) connectionSession.getBackendConnection(), setStatement);
+            return;
+        }
         if (log.isDebugEnabled()) {
             log.debug("Set statement {} was discarded.", setStatement.getVariableAssigns().stream()
                     .map(segment -> String.format("%s %s = %s", segment.getVariable().getScope(), segment.getVariable().getVariable(), segment.getAssignValue())).collect(Collectors.joining(", ")));
         }
     }
+    
+    private boolean isSessionVariablesReplayEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void replaySessionVariables(final JDBCBackendConnection backendConnection, final SetStatement setStatement) {
+        for (VariableAssignSegment each : setStatement.getVariableAssigns()) {
+            String variableName = each.getVariable().getVariable();
+            if (!isReplayable(each) || TypedSPIRegistry.findRegisteredService(MySQLSessionVariableHandler.class, variableName).isPresent()) {
+                continue;
+            }
+            String lowerCaseVariableName = variableName.toLowerCase();
+            if ("default".equalsIgnoreCase(each.getAssignValue())) {
+                backendConnection.resetSessionVariable(lowerCaseVariableName);
+            } else {
+                backendConnection.setSessionVariable(lowerCaseVariableName,
+                        new ReplayedSessionVariable(String.format("SET SESSION %s = %s", variableName, each.getAssignValue()), String.format("SET SESSION %s = DEFAULT", variableName)));
+            }
+        }
+    }
+    
+    private boolean isReplayable(final VariableAssignSegment variableAssign) {
+        String scope = variableAssign.getVariable().getScope();
+        return (null == scope || "session".equalsIgnoreCase(scope) || "local".equalsIgnoreCase(scope)) && !variableAssign.getVariable().getVariable().startsWith("@");
+    }
 }
@@ -17,10 +17,19 @@
 
 package org.apache.shardingsphere.proxy.backend.text.admin.postgresql;
 
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ReplayedSessionVariable;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 
+import java.sql.SQLException;
+import java.util.Optional;
+
 /**
  * Default session variable handler for PostgreSQL.
  */
@@ -29,7 +38,33 @@ public final class DefaultPostgreSQLSessionVariableHandler implements PostgreSQL
     
     @Override
     public void handle(final ConnectionSession connectionSession, final SetStatement setStatement) {
-        log.debug("Set statement {} was discarded.", setStatement.getVariableAssigns().stream().findFirst()
-                .map(segment -> String.format("%s = %s", segment.getVariable().getVariable(), segment.getAssignValue())).orElseGet(setStatement::toString));
+        Optional<VariableAssignSegment> variableAssign = setStatement.getVariableAssigns().stream().findFirst();
+        if (variableAssign.isPresent() && isReplayable(variableAssign.get()) && connectionSession.getBackendConnection() instanceof JDBCBackendConnection && isSessionVariablesReplayEnabled()) {
+            replaySessionVariable((JDBCBackendConnection) connectionSession.getBackendConnection(), variableAssign.get());
+            return;
+        }
+        log.debug("Set statement {} was discarded.",
+                variableAssign.map(segment -> String.format("%s = %s", segment.getVariable().getVariable(), segment.getAssignValue())).orElseGet(setStatement::toString));
+    }
+    
+    private boolean isReplayable(final VariableAssignSegment variableAssign) {
+        // value is absent for statements such as SET x FROM CURRENT, which can not be replayed
+        return !"local".equalsIgnoreCase(variableAssign.getVariable().getScope()) && null != variableAssign.getAssignValue();
+    }
+    
+    private boolean isSessionVariablesReplayEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void replaySessionVariable(final JDBCBackendConnection backendConnection, final VariableAssignSegment variableAssign) {
+        String variableName = variableAssign.getVariable().getVariable();
+        String lowerCaseVariableName = variableName.toLowerCase();
+        if ("default".equalsIgnoreCase(variableAssign.getAssignValue())) {
+            backendConnection.resetSessionVariable(lowerCaseVariableName);
+        } else {
+            backendConnection.setSessionVariable(lowerCaseVariableName,
+                    new ReplayedSessionVariable(String.format("SET %s = %s", variableName, variableAssign.getAssignValue()), "RESET " + variableName));
+        }
     }
 }
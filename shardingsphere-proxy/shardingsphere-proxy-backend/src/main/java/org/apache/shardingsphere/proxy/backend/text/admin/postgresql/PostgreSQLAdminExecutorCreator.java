@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.proxy.backend.text.admin.postgresql;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.text.admin.executor.AbstractDatabaseMetadataExecutor.DefaultDatabaseMetadataExecutor;
 import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminExecutor;
 import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminExecutorCreator;
@@ -28,8 +30,11 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SubqueryTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.ResetParameterStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl.PostgreSQLDiscardStatement;
 
 import java.util.Collection;
 import java.util.List;
@@ -53,6 +58,8 @@ public final class PostgreSQLAdminExecutorCreator implements DatabaseAdminExecut
     
     private static final String PG_PREFIX = "pg_";
     
+    private static final String DISCARD = "DISCARD";
+    
     @Override
     public Optional<DatabaseAdminExecutor> create(final SQLStatementContext<?> sqlStatementContext) {
         return Optional.empty();
@@ -73,9 +80,30 @@ public final class PostgreSQLAdminExecutorCreator implements DatabaseAdminExecut
                 return Optional.of(new DefaultDatabaseMetadataExecutor(sql));
             }
         }
+        if ((sqlStatement instanceof ResetParameterStatement || sqlStatement instanceof PostgreSQLDiscardStatement) && isSessionVariablesReplayEnabled()) {
+            return createResetVariableAdminExecutor(sql);
+        }
         return sqlStatement instanceof SetStatement ? Optional.of(new PostgreSQLSetVariableAdminExecutor((SetStatement) sqlStatement)) : Optional.empty();
     }
     
+    private boolean isSessionVariablesReplayEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED);
+    }
+    
+    private Optional<DatabaseAdminExecutor> createResetVariableAdminExecutor(final String sql) {
+        String[] segments = SQLUtil.trimSemicolon(SQLUtil.trimComment(sql)).trim().split("\\s+");
+        if (2 != segments.length) {
+            return Optional.empty();
+        }
+        // only DISCARD ALL resets session variables, the other DISCARD statements are sent to backend database
+        if (DISCARD.equalsIgnoreCase(segments[0])) {
+            return PostgreSQLResetVariableAdminExecutor.ALL_VARIABLES.equalsIgnoreCase(segments[1])
+                    ? Optional.of(new PostgreSQLResetVariableAdminExecutor(PostgreSQLResetVariableAdminExecutor.ALL_VARIABLES))
+                    : Optional.empty();
+        }
+        return Optional.of(new PostgreSQLResetVariableAdminExecutor(SQLUtil.getExactlyValue(segments[1])));
+    }
+    
     private boolean isQueryPgTable(final Collection<String> selectedTableNames) {
         boolean isComplexQueryTable = selectedTableNames.contains(PG_CLASS) && selectedTableNames.contains(PG_TRIGGER) && selectedTableNames.contains(PG_INHERITS);
         return selectedTableNames.contains(PG_TABLESPACE) || isComplexQueryTable;
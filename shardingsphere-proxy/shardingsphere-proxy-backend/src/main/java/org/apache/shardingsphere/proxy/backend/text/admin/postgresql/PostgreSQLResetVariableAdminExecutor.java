@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.postgresql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminExecutor;
+
+import java.sql.SQLException;
+
+/**
+ * Reset variable admin executor for PostgreSQL, which handles RESET and DISCARD ALL for replayed session variables.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLResetVariableAdminExecutor implements DatabaseAdminExecutor {
+    
+    /**
+     * Variable name which means resetting all variables.
+     */
+    public static final String ALL_VARIABLES = "all";
+    
+    private final String variableName;
+    
+    @Override
+    public void execute(final ConnectionSession connectionSession) throws SQLException {
+        if (!(connectionSession.getBackendConnection() instanceof JDBCBackendConnection)) {
+            return;
+        }
+        JDBCBackendConnection backendConnection = (JDBCBackendConnection) connectionSession.getBackendConnection();
+        if (ALL_VARIABLES.equalsIgnoreCase(variableName)) {
+            backendConnection.resetAllSessionVariables();
+        } else {
+            backendConnection.resetSessionVariable(variableName.toLowerCase());
+        }
+    }
+}
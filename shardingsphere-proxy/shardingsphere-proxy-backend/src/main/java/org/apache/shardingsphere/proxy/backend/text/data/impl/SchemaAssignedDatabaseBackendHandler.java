@@ -40,6 +40,7 @@ import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
 import org.apache.shardingsphere.sharding.merge.ddl.fetch.FetchOrderByValueGroupsHolder;
 
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * Database backend handler with assigned schema.
@@ -127,6 +128,11 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
         return databaseCommunicationEngine.getQueryResponseRow();
     }
     
+    @Override
+    public Collection<Object> getRowValues() throws SQLException {
+        return databaseCommunicationEngine.getRowValues();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (databaseCommunicationEngine instanceof JDBCDatabaseCommunicationEngine) {
@@ -104,6 +104,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseCommunicationEngine.getQueryResponseRow();
     }
     
+    @Override
+    public Collection<Object> getRowValues() throws SQLException {
+        return databaseCommunicationEngine.getRowValues();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (databaseCommunicationEngine instanceof JDBCDatabaseCommunicationEngine) {
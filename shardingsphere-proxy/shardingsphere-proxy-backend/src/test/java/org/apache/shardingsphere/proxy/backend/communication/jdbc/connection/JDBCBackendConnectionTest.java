@@ -35,6 +35,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBC
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ReplayedSessionVariable;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
 import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEngine;
@@ -53,17 +54,21 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -253,6 +258,122 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         verify(connection, times(1)).rollback();
     }
     
+    @Test
+    public void assertSetSessionVariableAndResetWhenCloseConnections() throws SQLException {
+        Map<String, ReplayedSessionVariable> replayedSessionVariables = new ConcurrentHashMap<>();
+        when(connectionSession.getReplayedSessionVariables()).thenReturn(replayedSessionVariables);
+        Connection connection = prepareCachedConnections();
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        backendConnection.setSessionVariable("sql_mode", new ReplayedSessionVariable("SET SESSION sql_mode = ''", "SET SESSION sql_mode = DEFAULT"));
+        assertTrue(replayedSessionVariables.containsKey("sql_mode"));
+        verify(statement).execute("SET SESSION sql_mode = ''");
+        backendConnection.closeConnections(false);
+        verify(statement).execute("SET SESSION sql_mode = DEFAULT");
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertResetSessionVariable() throws SQLException {
+        Map<String, ReplayedSessionVariable> replayedSessionVariables = new ConcurrentHashMap<>();
+        replayedSessionVariables.put("sql_mode", new ReplayedSessionVariable("SET SESSION sql_mode = ''", "SET SESSION sql_mode = DEFAULT"));
+        when(connectionSession.getReplayedSessionVariables()).thenReturn(replayedSessionVariables);
+        Connection connection = prepareCachedConnections();
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        backendConnection.resetSessionVariable("sql_mode");
+        assertTrue(replayedSessionVariables.isEmpty());
+        verify(statement).execute("SET SESSION sql_mode = DEFAULT");
+    }
+    
+    @Test
+    public void assertAbortConnectionWhenResetSessionVariableFailed() throws SQLException {
+        Map<String, ReplayedSessionVariable> replayedSessionVariables = new LinkedHashMap<>();
+        replayedSessionVariables.put("sql_mode", new ReplayedSessionVariable("SET SESSION sql_mode = ''", "SET SESSION sql_mode = DEFAULT"));
+        replayedSessionVariables.put("time_zone", new ReplayedSessionVariable("SET SESSION time_zone = '+00:00'", "SET SESSION time_zone = DEFAULT"));
+        when(connectionSession.getReplayedSessionVariables()).thenReturn(replayedSessionVariables);
+        Connection connection = prepareCachedConnections();
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        SQLException sqlException = new SQLException("");
+        when(statement.execute("SET SESSION sql_mode = DEFAULT")).thenThrow(sqlException);
+        assertTrue(backendConnection.closeConnections(false).contains(sqlException));
+        verify(statement).execute("SET SESSION time_zone = DEFAULT");
+        verify(connection).abort(any());
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertReleaseNewConnectionsWhenReplaySessionVariableFailed() throws SQLException {
+        Map<String, ReplayedSessionVariable> replayedSessionVariables = new ConcurrentHashMap<>();
+        replayedSessionVariables.put("sql_mode", new ReplayedSessionVariable("SET SESSION sql_mode = ''", "SET SESSION sql_mode = DEFAULT"));
+        when(connectionSession.getReplayedSessionVariables()).thenReturn(replayedSessionVariables);
+        List<Connection> newConnections = MockConnectionUtil.mockNewConnections(2);
+        Statement statement = mock(Statement.class);
+        SQLException sqlException = new SQLException("");
+        when(statement.execute("SET SESSION sql_mode = ''")).thenThrow(sqlException);
+        for (Connection each : newConnections) {
+            when(each.createStatement()).thenReturn(statement);
+        }
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(newConnections);
+        try {
+            backendConnection.getConnections("ds1", 2, ConnectionMode.MEMORY_STRICTLY);
+            fail("SQLException should be thrown");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(sqlException));
+        }
+        for (Connection each : newConnections) {
+            verify(each).abort(any());
+            verify(each).close();
+        }
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertCommitSessionVariablesSetInTransaction() throws SQLException {
+        Map<String, ReplayedSessionVariable> replayedSessionVariables = new ConcurrentHashMap<>();
+        replayedSessionVariables.put("time_zone", new ReplayedSessionVariable("SET SESSION time_zone = '+00:00'", "SET SESSION time_zone = DEFAULT"));
+        when(connectionSession.getReplayedSessionVariables()).thenReturn(replayedSessionVariables);
+        connectionSession.getTransactionStatus().setInTransaction(true);
+        backendConnection.setSessionVariable("sql_mode", new ReplayedSessionVariable("SET SESSION sql_mode = ''", "SET SESSION sql_mode = DEFAULT"));
+        backendConnection.resetSessionVariable("time_zone");
+        assertThat(replayedSessionVariables.keySet(), is(Collections.singleton("time_zone")));
+        backendConnection.commitSessionVariables();
+        assertThat(replayedSessionVariables.keySet(), is(Collections.singleton("sql_mode")));
+    }
+    
+    @Test
+    public void assertRollbackSessionVariablesSetInTransaction() throws SQLException {
+        Map<String, ReplayedSessionVariable> replayedSessionVariables = new ConcurrentHashMap<>();
+        when(connectionSession.getReplayedSessionVariables()).thenReturn(replayedSessionVariables);
+        Connection connection = prepareCachedConnections();
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        connectionSession.getTransactionStatus().setInTransaction(true);
+        backendConnection.setSessionVariable("sql_mode", new ReplayedSessionVariable("SET SESSION sql_mode = ''", "SET SESSION sql_mode = DEFAULT"));
+        verify(statement).execute("SET SESSION sql_mode = ''");
+        backendConnection.rollbackSessionVariables();
+        connectionSession.getTransactionStatus().setInTransaction(false);
+        assertTrue(replayedSessionVariables.isEmpty());
+        backendConnection.closeConnections(false);
+        verify(statement).execute("SET SESSION sql_mode = DEFAULT");
+    }
+    
+    @Test
+    public void assertResetAllSessionVariables() throws SQLException {
+        Map<String, ReplayedSessionVariable> replayedSessionVariables = new ConcurrentHashMap<>();
+        replayedSessionVariables.put("sql_mode", new ReplayedSessionVariable("SET SESSION sql_mode = ''", "SET SESSION sql_mode = DEFAULT"));
+        replayedSessionVariables.put("time_zone", new ReplayedSessionVariable("SET SESSION time_zone = '+00:00'", "SET SESSION time_zone = DEFAULT"));
+        when(connectionSession.getReplayedSessionVariables()).thenReturn(replayedSessionVariables);
+        Connection connection = prepareCachedConnections();
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        backendConnection.resetAllSessionVariables();
+        assertTrue(replayedSessionVariables.isEmpty());
+        verify(statement).execute("SET SESSION sql_mode = DEFAULT");
+        verify(statement).execute("SET SESSION time_zone = DEFAULT");
+    }
+    
     @Test
     public void assertCloseConnectionsCorrectlyWhenSQLExceptionThrown() throws SQLException {
         Connection connection = prepareCachedConnections();
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private final Connection connection = mock(Connection.class);
+    
+    @Test
+    public void assertBorrowReleasedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.put(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, statement);
+        assertFalse(cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertTrue(cache.release(statement));
+        Optional<PreparedStatement> actual = cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(statement));
+        assertFalse(cache.borrow(connection, "SELECT 1", true, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertFalse(cache.borrow(connection, "SELECT 1", false, ConnectionMode.CONNECTION_STRICTLY).isPresent());
+        assertFalse(cache.borrow(mock(Connection.class), "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    public void assertReleaseNotCachedStatement() {
+        assertFalse(new PreparedStatementCache(2).release(mock(PreparedStatement.class)));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        cache.put(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, first);
+        cache.release(first);
+        cache.put(connection, "SELECT 2", false, ConnectionMode.MEMORY_STRICTLY, second);
+        cache.release(second);
+        assertTrue(cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        cache.put(connection, "SELECT 3", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        assertThat(cache.size(), is(2));
+        verify(second).close();
+        verify(first, never()).close();
+    }
+    
+    @Test
+    public void assertCloseEvictedStatementWhenReleased() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        cache.put(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, first);
+        cache.put(connection, "SELECT 2", false, ConnectionMode.MEMORY_STRICTLY, second);
+        verify(first, never()).close();
+        assertTrue(cache.release(first));
+        verify(first).close();
+    }
+    
+    @Test
+    public void assertSkipClosedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.put(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, statement);
+        cache.release(statement);
+        when(statement.isClosed()).thenReturn(true);
+        assertFalse(cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.put(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, statement);
+        cache.clear();
+        verify(statement).close();
+        assertThat(cache.size(), is(0));
+        assertFalse(cache.release(statement));
+    }
+    
+    @Test
+    public void assertClearWithEvictedBorrowedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        cache.put(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, first);
+        cache.put(connection, "SELECT 2", false, ConnectionMode.MEMORY_STRICTLY, second);
+        cache.clear();
+        verify(first).close();
+        verify(second).close();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CommandFlushCoalescerTest {
+    
+    @Test
+    public void assertFlushWhenNoCommandPending() {
+        CommandFlushCoalescer coalescer = new CommandFlushCoalescer();
+        coalescer.commandReceived();
+        assertTrue(coalescer.commandCompleted(true, true));
+    }
+    
+    @Test
+    public void assertCoalesceFlushOfPipelinedCommands() {
+        CommandFlushCoalescer coalescer = new CommandFlushCoalescer();
+        coalescer.commandReceived();
+        coalescer.commandReceived();
+        coalescer.commandReceived();
+        assertFalse(coalescer.commandCompleted(true, true));
+        assertFalse(coalescer.commandCompleted(false, true));
+        assertTrue(coalescer.commandCompleted(false, true));
+    }
+    
+    @Test
+    public void assertFlushWhenChannelNotWritable() {
+        CommandFlushCoalescer coalescer = new CommandFlushCoalescer();
+        coalescer.commandReceived();
+        coalescer.commandReceived();
+        assertTrue(coalescer.commandCompleted(true, false));
+        assertFalse(coalescer.commandCompleted(false, true));
+    }
+    
+    @Test
+    public void assertFlushAfterPipelinedCommandRejected() {
+        CommandFlushCoalescer coalescer = new CommandFlushCoalescer();
+        coalescer.commandReceived();
+        coalescer.commandReceived();
+        coalescer.commandRejected();
+        assertTrue(coalescer.commandCompleted(true, true));
+    }
+    
+    @Test
+    public void assertNotFlushWithoutResponseWritten() {
+        CommandFlushCoalescer coalescer = new CommandFlushCoalescer();
+        coalescer.commandReceived();
+        assertFalse(coalescer.commandCompleted(false, true));
+    }
+}
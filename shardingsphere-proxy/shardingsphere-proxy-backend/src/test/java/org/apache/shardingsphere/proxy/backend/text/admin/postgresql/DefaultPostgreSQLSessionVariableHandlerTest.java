@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.proxy.backend.text.admin.postgresql;
 
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
 import org.junit.Test;
 
@@ -32,4 +34,17 @@ public final class DefaultPostgreSQLSessionVariableHandlerTest {
         new DefaultPostgreSQLSessionVariableHandler().handle(connectionSession, new PostgreSQLSetStatement());
         verifyNoInteractions(connectionSession);
     }
+    
+    @Test
+    public void assertHandleWithoutAssignValue() {
+        VariableSegment variableSegment = new VariableSegment();
+        variableSegment.setVariable("search_path");
+        VariableAssignSegment variableAssignSegment = new VariableAssignSegment();
+        variableAssignSegment.setVariable(variableSegment);
+        PostgreSQLSetStatement setStatement = new PostgreSQLSetStatement();
+        setStatement.getVariableAssigns().add(variableAssignSegment);
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        new DefaultPostgreSQLSessionVariableHandler().handle(connectionSession, setStatement);
+        verifyNoInteractions(connectionSession);
+    }
 }
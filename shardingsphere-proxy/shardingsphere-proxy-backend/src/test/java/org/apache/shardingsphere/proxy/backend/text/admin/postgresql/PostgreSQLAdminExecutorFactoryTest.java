@@ -20,9 +20,13 @@ package org.apache.shardingsphere.proxy.backend.text.admin.postgresql;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminExecutor;
 import org.apache.shardingsphere.proxy.backend.text.admin.postgresql.executor.SelectDatabaseExecutor;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
@@ -30,7 +34,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Tab
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLResetParameterStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl.PostgreSQLDiscardStatement;
 import org.junit.Test;
 
 import java.sql.SQLException;
@@ -40,11 +46,12 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-public final class PostgreSQLAdminExecutorFactoryTest {
+public final class PostgreSQLAdminExecutorFactoryTest extends ProxyContextRestorer {
     
     private final PostgreSQLAdminExecutorCreator postgreSQLAdminExecutorFactory = new PostgreSQLAdminExecutorCreator();
     
@@ -102,6 +109,37 @@ public final class PostgreSQLAdminExecutorFactoryTest {
         verifyNoInteractions(connectionSession);
     }
     
+    @Test
+    public void assertNewInstanceWithResetParameter() {
+        mockSessionVariablesReplayEnabled();
+        CommonSQLStatementContext<PostgreSQLResetParameterStatement> statementContext = new CommonSQLStatementContext<>(new PostgreSQLResetParameterStatement());
+        Optional<DatabaseAdminExecutor> actual = postgreSQLAdminExecutorFactory.create(statementContext, "RESET DateStyle", null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(PostgreSQLResetVariableAdminExecutor.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDiscardAll() {
+        mockSessionVariablesReplayEnabled();
+        CommonSQLStatementContext<PostgreSQLDiscardStatement> statementContext = new CommonSQLStatementContext<>(new PostgreSQLDiscardStatement());
+        Optional<DatabaseAdminExecutor> actual = postgreSQLAdminExecutorFactory.create(statementContext, "DISCARD ALL;", null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(PostgreSQLResetVariableAdminExecutor.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDiscardPlans() {
+        mockSessionVariablesReplayEnabled();
+        CommonSQLStatementContext<PostgreSQLDiscardStatement> statementContext = new CommonSQLStatementContext<>(new PostgreSQLDiscardStatement());
+        assertFalse(postgreSQLAdminExecutorFactory.create(statementContext, "DISCARD PLANS", null).isPresent());
+    }
+    
+    private void mockSessionVariablesReplayEnabled() {
+        ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED)).thenReturn(true);
+    }
+    
     private SetStatement createSetStatement(final String configurationParameter) {
         VariableSegment variableSegment = new VariableSegment();
         variableSegment.setVariable(configurationParameter);
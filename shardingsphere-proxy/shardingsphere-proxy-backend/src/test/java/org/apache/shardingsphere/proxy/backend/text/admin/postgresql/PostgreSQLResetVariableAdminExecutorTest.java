@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.postgresql;
+
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLResetVariableAdminExecutorTest {
+    
+    @Test
+    public void assertExecuteWithVariableName() throws SQLException {
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        new PostgreSQLResetVariableAdminExecutor("DateStyle").execute(mockConnectionSession(backendConnection));
+        verify(backendConnection).resetSessionVariable("datestyle");
+    }
+    
+    @Test
+    public void assertExecuteWithAllVariables() throws SQLException {
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        new PostgreSQLResetVariableAdminExecutor("ALL").execute(mockConnectionSession(backendConnection));
+        verify(backendConnection).resetAllSessionVariables();
+    }
+    
+    private ConnectionSession mockConnectionSession(final JDBCBackendConnection backendConnection) {
+        ConnectionSession result = mock(ConnectionSession.class);
+        when(result.getBackendConnection()).thenReturn(backendConnection);
+        return result;
+    }
+}
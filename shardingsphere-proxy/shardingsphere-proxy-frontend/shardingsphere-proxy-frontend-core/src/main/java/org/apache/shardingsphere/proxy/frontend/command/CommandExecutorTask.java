@@ -89,7 +89,7 @@ public final class CommandExecutorTask implements Runnable {
             } catch (final BackendConnectionException ex) {
                 exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
             }
-            if (isNeedFlush) {
+            if (connectionSession.getCommandFlushCoalescer().commandCompleted(isNeedFlush, context.channel().isWritable())) {
                 context.flush();
             }
             processClosedExceptions(exceptions);
@@ -92,6 +92,9 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        if (connectionSession.getBackendConnection() instanceof JDBCBackendConnection) {
+            ((JDBCBackendConnection) connectionSession.getBackendConnection()).getResourceLock().doNotify();
+        }
         UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
     }
     
@@ -38,7 +38,16 @@ public final class JDBCOKProxyState implements OKProxyState {
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
         CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message);
         ExecutorService executorService = determineSuitableExecutorService(context, message, databaseProtocolFrontendEngine, connectionSession);
-        executorService.execute(commandExecutorTask);
+        connectionSession.getCommandFlushCoalescer().commandReceived();
+        boolean submitted = false;
+        try {
+            executorService.execute(commandExecutorTask);
+            submitted = true;
+        } finally {
+            if (!submitted) {
+                connectionSession.getCommandFlushCoalescer().commandRejected();
+            }
+        }
     }
     
     private ExecutorService determineSuitableExecutorService(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
+import org.apache.shardingsphere.proxy.backend.session.CommandFlushCoalescer;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.ProxyContextRestorer;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
@@ -53,6 +54,7 @@ import java.util.Optional;
 
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -97,10 +99,13 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
     @Mock
     private FrontendContext frontendContext;
     
+    private final CommandFlushCoalescer commandFlushCoalescer = new CommandFlushCoalescer();
+    
     @Before
     public void setup() {
         ProxyContext.init(new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), new ShardingSphereMetaData(), mock(OptimizerContext.class)), mock(InstanceContext.class)));
         when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
+        when(connectionSession.getCommandFlushCoalescer()).thenReturn(commandFlushCoalescer);
         when(handlerContext.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
     }
     
@@ -134,6 +139,24 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         verify(backendConnection).closeExecutionResources();
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertRunWithPendingPipelinedCommand() throws SQLException, BackendConnectionException {
+        when(handlerContext.channel().isWritable()).thenReturn(true);
+        when(commandExecutor.execute()).thenReturn(Collections.singleton(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
+        commandFlushCoalescer.commandReceived();
+        commandFlushCoalescer.commandReceived();
+        new CommandExecutorTask(engine, connectionSession, handlerContext, message).run();
+        verify(handlerContext).write(databasePacket);
+        verify(handlerContext, never()).flush();
+        new CommandExecutorTask(engine, connectionSession, handlerContext, message).run();
+        verify(handlerContext).flush();
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     public void assertRunByCommandExecutor() throws SQLException, BackendConnectionException {
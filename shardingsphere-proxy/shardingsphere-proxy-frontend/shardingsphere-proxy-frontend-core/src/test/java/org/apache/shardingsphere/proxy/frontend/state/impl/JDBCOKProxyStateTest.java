@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.CommandFlushCoalescer;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.ProxyContextRestorer;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
@@ -40,9 +41,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -108,6 +113,25 @@ public final class JDBCOKProxyStateTest extends ProxyContextRestorer {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
+    @Test
+    public void assertExecuteWithRejectedCommand() {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(ProxyContext.getInstance().getContextManager()
+                .getMetaDataContexts().getMetaData().getProps().<String>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE)).thenReturn("OLTP");
+        CommandFlushCoalescer commandFlushCoalescer = new CommandFlushCoalescer();
+        when(connectionSession.getCommandFlushCoalescer()).thenReturn(commandFlushCoalescer);
+        EventExecutor eventExecutor = mock(EventExecutor.class);
+        doThrow(RejectedExecutionException.class).when(eventExecutor).execute(any(CommandExecutorTask.class));
+        when(context.executor()).thenReturn(eventExecutor);
+        try {
+            new JDBCOKProxyState().execute(context, null, frontendEngine, connectionSession);
+            fail("Expected RejectedExecutionException to be thrown");
+        } catch (final RejectedExecutionException expected) {
+            commandFlushCoalescer.commandReceived();
+            assertTrue(commandFlushCoalescer.commandCompleted(true, true));
+        }
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertExecuteWithProxyBackendExecutorSuitableForInvalidValue() {
         when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
@@ -82,9 +82,12 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         int currentSequenceId = 0;
         while (queryCommandExecutor.next()) {
             count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
+            if (!context.channel().isWritable()) {
                 context.flush();
-                ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait();
+                ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait(() -> context.channel().isWritable() || !context.channel().isActive());
+            }
+            if (!context.channel().isActive()) {
+                return;
             }
             DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
             context.write(dataValue);
@@ -39,9 +39,8 @@ import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicati
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementDatabaseHolder;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -83,6 +82,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private int currentSequenceId;
     
+    private List<MySQLBinaryColumnType> columnTypes;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         MySQLPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -135,6 +136,15 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         responseType = ResponseType.QUERY;
         Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession));
         currentSequenceId = result.size();
+        columnTypes = createColumnTypes(queryResponseHeader);
+        return result;
+    }
+    
+    private List<MySQLBinaryColumnType> createColumnTypes(final QueryResponseHeader queryResponseHeader) {
+        List<MySQLBinaryColumnType> result = new ArrayList<>(queryResponseHeader.getQueryHeaders().size());
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            result.add(MySQLBinaryColumnType.valueOfJDBCType(each.getColumnType()));
+        }
         return result;
     }
     
@@ -150,14 +160,13 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        QueryResponseRow queryResponseRow = databaseCommunicationEngine.getQueryResponseRow();
-        return new MySQLBinaryResultSetRowPacket(++currentSequenceId, createBinaryRow(queryResponseRow));
+        return new MySQLBinaryResultSetRowPacket(++currentSequenceId, createBinaryRow(databaseCommunicationEngine.getRowValues()));
     }
     
-    private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
-        List<BinaryCell> result = new ArrayList<>(queryResponseRow.getCells().size());
-        for (QueryResponseCell each : queryResponseRow.getCells()) {
-            result.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()), each.getData()));
+    private BinaryRow createBinaryRow(final List<Object> rowValues) {
+        List<BinaryCell> result = new ArrayList<>(rowValues.size());
+        for (int i = 0; i < rowValues.size(); i++) {
+            result.add(new BinaryCell(columnTypes.get(i), rowValues.get(i)));
         }
         return new BinaryRow(result);
     }
@@ -127,7 +127,7 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
     
     @Override
     public PostgreSQLPacket getQueryRowPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(textProtocolBackendHandler.getRowData().getData());
+        return new PostgreSQLDataRowPacket(textProtocolBackendHandler.getRowValues());
     }
     
     @Override
@@ -107,9 +107,12 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             flushCount++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
+            if (!context.channel().isWritable()) {
                 context.flush();
-                backendConnection.getResourceLock().doAwait();
+                backendConnection.getResourceLock().doAwait(() -> context.channel().isWritable() || !context.channel().isActive());
+            }
+            if (!context.channel().isActive()) {
+                break;
             }
             DatabasePacket<?> resultValue = queryCommandExecutor.getQueryRowPacket();
             context.write(resultValue);
@@ -184,7 +184,20 @@ public final class JDBCPortal implements Portal<Void> {
     }
     
     private PostgreSQLPacket nextPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(getData(null != databaseCommunicationEngine ? databaseCommunicationEngine.getQueryResponseRow() : textProtocolBackendHandler.getRowData()));
+        return new PostgreSQLDataRowPacket(null != databaseCommunicationEngine ? getData(databaseCommunicationEngine.getRowValues()) : getData(textProtocolBackendHandler.getRowData()));
+    }
+    
+    private List<Object> getData(final List<Object> rowValues) {
+        if (resultFormats.isEmpty()) {
+            return rowValues;
+        }
+        List<QueryHeader> queryHeaders = ((QueryResponseHeader) responseHeader).getQueryHeaders();
+        for (int i = 0; i < rowValues.size(); i++) {
+            if (PostgreSQLValueFormat.BINARY == determineValueFormat(i)) {
+                rowValues.set(i, new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(queryHeaders.get(i).getColumnType()), rowValues.get(i)));
+            }
+        }
+        return rowValues;
     }
     
     private List<Object> getData(final QueryResponseRow queryResponseRow) {
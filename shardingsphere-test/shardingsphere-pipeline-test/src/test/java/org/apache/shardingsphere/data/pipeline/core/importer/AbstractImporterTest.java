@@ -41,6 +41,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -51,6 +52,7 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -101,7 +103,19 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteInsertDataRecordsInOneStatement() throws SQLException {
+        DataRecord insertRecord = getDataRecord("INSERT");
+        DataRecord anotherInsertRecord = getDataRecord("INSERT", 2);
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(insertRecord, anotherInsertRecord, new FinishedRecord(new PlaceholderPosition())));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
     }
     
     @Test
@@ -165,10 +179,14 @@ public final class AbstractImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
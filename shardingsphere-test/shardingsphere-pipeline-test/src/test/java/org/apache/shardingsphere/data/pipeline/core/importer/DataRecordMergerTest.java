@@ -33,6 +33,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class DataRecordMergerTest {
     
@@ -157,6 +158,32 @@ public final class DataRecordMergerTest {
         assertThat(dataRecord.getColumn(2).getValue(), is(2));
     }
     
+    @Test
+    public void assertUpdateBeforeUpdateWithSharedColumnNames() {
+        List<String> columnNames = Arrays.asList("id", "user_id", "total_price");
+        beforeDataRecord = new DataRecord(new PlaceholderPosition(), columnNames);
+        beforeDataRecord.setType(IngestDataChangeType.UPDATE);
+        beforeDataRecord.setTableName("order");
+        beforeDataRecord.addColumn("id", null, 1, false, true);
+        beforeDataRecord.addColumn("user_id", null, 1, true, false);
+        beforeDataRecord.addColumn("total_price", null, 1, false, false);
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), columnNames);
+        afterDataRecord.setType(IngestDataChangeType.UPDATE);
+        afterDataRecord.setTableName("order");
+        afterDataRecord.addColumn("id", 1, 2, true, true);
+        afterDataRecord.addColumn("user_id", null, 1, false, false);
+        afterDataRecord.addColumn("total_price", null, 2, true, false);
+        actual = dataRecordMerger.merge(Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.size(), is(1));
+        DataRecord dataRecord = actual.iterator().next();
+        assertThat(dataRecord.getColumnNames(), sameInstance(columnNames));
+        assertThat(dataRecord.getColumnOldValue(0), is((Object) 1));
+        assertThat(dataRecord.getColumnValue(0), is((Object) 2));
+        assertTrue(dataRecord.isColumnUpdated(1));
+        assertTrue(dataRecord.isColumnUpdated(2));
+        assertThat(dataRecord.getColumnValue(2), is((Object) 2));
+    }
+    
     @Test(expected = UnsupportedOperationException.class)
     public void assertDeleteBeforeUpdate() {
         beforeDataRecord = mockDeleteDataRecord(1, 1, 1);
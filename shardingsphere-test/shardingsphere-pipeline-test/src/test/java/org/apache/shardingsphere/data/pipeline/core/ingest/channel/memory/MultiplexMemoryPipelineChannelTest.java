@@ -47,28 +47,40 @@ public final class MultiplexMemoryPipelineChannelTest {
     @Test
     public void assertAckCallbackResultSortable() {
         Record[] records = mockRecords();
-        execute(ackRecords -> {
-            AtomicInteger lastId = new AtomicInteger();
-            for (Record record : ackRecords) {
-                int currentId = ((IntPosition) record.getPosition()).getId();
-                assertTrue(currentId > lastId.get());
-                lastId.set(currentId);
-            }
-        }, countDataRecord(records), records);
+        execute(this::assertAckRecordsSorted, countDataRecord(records), false, records);
+    }
+    
+    @Test
+    public void assertAckCallbackResultSortableWithRecordsPushedInBatch() {
+        Record[] records = mockRecords();
+        execute(this::assertAckRecordsSorted, countDataRecord(records), true, records);
     }
     
     @Test
     public void assertBroadcastFinishedRecord() {
-        execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
+        execute(records -> assertThat(records.size(), is(1)), 2, false, new FinishedRecord(new PlaceholderPosition()));
+    }
+    
+    private void assertAckRecordsSorted(final List<Record> ackRecords) {
+        AtomicInteger lastId = new AtomicInteger();
+        for (Record record : ackRecords) {
+            int currentId = ((IntPosition) record.getPosition()).getId();
+            assertTrue(currentId > lastId.get());
+            lastId.set(currentId);
+        }
     }
     
     @SneakyThrows(InterruptedException.class)
-    private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
+    private void execute(final AckCallback ackCallback, final int recordCount, final boolean batchPush, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);
         MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, ackCallback);
         fetchWithMultiThreading(memoryChannel, countDownLatch);
-        for (Record record : records) {
-            memoryChannel.pushRecord(record);
+        if (batchPush) {
+            memoryChannel.pushRecords(Arrays.asList(records));
+        } else {
+            for (Record record : records) {
+                memoryChannel.pushRecord(record);
+            }
         }
         boolean awaitResult = countDownLatch.await(10, TimeUnit.SECONDS);
         assertTrue("await failed", awaitResult);
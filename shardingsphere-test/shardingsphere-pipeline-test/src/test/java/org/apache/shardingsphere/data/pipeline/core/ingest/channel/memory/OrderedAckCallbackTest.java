@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class OrderedAckCallbackTest {
+    
+    @Test
+    public void assertOnAckOutOfOrder() {
+        List<Record> actual = new LinkedList<>();
+        OrderedAckCallback ackCallback = new OrderedAckCallback(actual::addAll, 2);
+        ackCallback.track(0);
+        ackCallback.track(1);
+        ackCallback.track(1);
+        Record first = new PlaceholderRecord(new PlaceholderPosition());
+        Record second = new PlaceholderRecord(new PlaceholderPosition());
+        Record third = new PlaceholderRecord(new PlaceholderPosition());
+        ackCallback.createChannelAckCallback(1).onAck(Arrays.asList(second, third));
+        assertTrue(actual.isEmpty());
+        ackCallback.createChannelAckCallback(0).onAck(Collections.singletonList(first));
+        assertThat(actual, is(Arrays.asList(first, second, third)));
+    }
+    
+    @Test
+    public void assertOnAckBroadcastRecord() {
+        List<Record> actual = new LinkedList<>();
+        OrderedAckCallback ackCallback = new OrderedAckCallback(actual::addAll, 2);
+        Record record = new FinishedRecord(new PlaceholderPosition());
+        ackCallback.trackBroadcast();
+        ackCallback.createChannelAckCallback(0).onAck(Collections.singletonList(record));
+        assertTrue(actual.isEmpty());
+        ackCallback.createChannelAckCallback(1).onAck(Collections.singletonList(record));
+        assertThat(actual, is(Collections.singletonList(record)));
+    }
+    
+    @Test
+    public void assertOnAckRecordsNotPushedInstances() {
+        List<Record> actual = new LinkedList<>();
+        OrderedAckCallback ackCallback = new OrderedAckCallback(actual::addAll, 1);
+        ackCallback.track(0);
+        ackCallback.track(0);
+        AckCallback channelAckCallback = ackCallback.createChannelAckCallback(0);
+        Record first = new PlaceholderRecord(new PlaceholderPosition());
+        channelAckCallback.onAck(Collections.singletonList(first));
+        assertThat(actual, is(Collections.singletonList(first)));
+        Record second = new PlaceholderRecord(new PlaceholderPosition());
+        channelAckCallback.onAck(Collections.singletonList(second));
+        assertThat(actual, is(Arrays.asList(first, second)));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferMemoryPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsWithTimeout() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(8, new EmptyAckCallback());
+        Record record = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecord(record);
+        List<Record> actual = channel.fetchRecords(5, 0);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), sameInstance(record));
+        assertTrue(channel.fetchRecords(5, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertFetchRecordsInOrderWhenBufferWrapped() throws InterruptedException {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(4, new EmptyAckCallback());
+        List<Record> expected = new ArrayList<>(1001);
+        for (int i = 0; i < 1000; i++) {
+            expected.add(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        expected.add(new FinishedRecord(new PlaceholderPosition()));
+        Thread producer = new Thread(() -> expected.forEach(channel::pushRecord));
+        producer.start();
+        List<Record> actual = new ArrayList<>(expected.size());
+        while (actual.isEmpty() || !(actual.get(actual.size() - 1) instanceof FinishedRecord)) {
+            List<Record> records = channel.fetchRecords(3, 0);
+            channel.ack(records);
+            actual.addAll(records);
+        }
+        producer.join();
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i), sameInstance(expected.get(i)));
+        }
+    }
+    
+    @Test
+    public void assertFetchRecordsInOrderWhenPushedInBatchLargerThanBuffer() throws InterruptedException {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(4, new EmptyAckCallback());
+        List<Record> expected = new ArrayList<>(1001);
+        for (int i = 0; i < 1000; i++) {
+            expected.add(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        expected.add(new FinishedRecord(new PlaceholderPosition()));
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < expected.size(); i += 7) {
+                channel.pushRecords(expected.subList(i, Math.min(i + 7, expected.size())));
+            }
+        });
+        producer.start();
+        List<Record> actual = new ArrayList<>(expected.size());
+        while (actual.isEmpty() || !(actual.get(actual.size() - 1) instanceof FinishedRecord)) {
+            actual.addAll(channel.fetchRecords(3, 0));
+        }
+        producer.join();
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i), sameInstance(expected.get(i)));
+        }
+    }
+    
+    @Test
+    public void assertCloseReleasesBlockedProducer() throws InterruptedException {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(2, new EmptyAckCallback());
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        Thread producer = new Thread(() -> channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition()))));
+        producer.start();
+        channel.close();
+        producer.join(10000L);
+        assertFalse(producer.isAlive());
+        assertTrue(channel.fetchRecords(5, 0).isEmpty());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillPipelineChannelTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertFetchRecordsInOrderFromMemoryAndSegments() {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("channel");
+        SpillPipelineChannel channel = new SpillPipelineChannel(2, 128, Long.MAX_VALUE, directory, new EmptyAckCallback());
+        for (int i = 1; i <= 10; i++) {
+            channel.pushRecord(createDataRecord(i));
+        }
+        channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        assertTrue(Objects.requireNonNull(directory.toFile().list()).length > 1);
+        List<Record> actual = new ArrayList<>(11);
+        while (actual.isEmpty() || !(actual.get(actual.size() - 1) instanceof FinishedRecord)) {
+            List<Record> records = channel.fetchRecords(3, 0);
+            channel.ack(records);
+            actual.addAll(records);
+        }
+        assertThat(actual.size(), is(11));
+        for (int i = 0; i < 10; i++) {
+            assertThat(actual.get(i), instanceOf(DataRecord.class));
+            assertThat(((DataRecord) actual.get(i)).getColumn(0).getValue(), is(i + 1));
+            assertThat(actual.get(i).getPosition().toString(), is(String.format("i,%d,%d", i + 1, i + 1)));
+        }
+        assertThat(Objects.requireNonNull(directory.toFile().list()).length, is(0));
+        channel.close();
+        assertFalse(directory.toFile().exists());
+    }
+    
+    @Test
+    public void assertKeepPositionWhichCouldNotBeEncoded() {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("channel");
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, 1024, Long.MAX_VALUE, directory, new EmptyAckCallback());
+        IngestPosition<?> firstPosition = new FixturePosition();
+        IngestPosition<?> secondPosition = new FixturePosition();
+        channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        channel.pushRecord(new FinishedRecord(firstPosition));
+        channel.pushRecord(new FinishedRecord(secondPosition));
+        List<Record> actual = channel.fetchRecords(3, 0);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(1).getPosition(), sameInstance(firstPosition));
+        assertThat(actual.get(2).getPosition(), sameInstance(secondPosition));
+        channel.close();
+        File[] remaining = temporaryFolder.getRoot().listFiles();
+        assertThat(Objects.requireNonNull(remaining).length, is(0));
+    }
+    
+    @Test
+    public void assertPushRecordBlockedWhenMaxSpillSizeReached() throws InterruptedException {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("channel");
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, 128, 128, directory, new EmptyAckCallback());
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= 5; i++) {
+                channel.pushRecord(createDataRecord(i));
+            }
+        });
+        producer.start();
+        producer.join(500L);
+        assertTrue(producer.isAlive());
+        assertThat(Objects.requireNonNull(directory.toFile().list()).length, is(1));
+        List<Record> actual = new ArrayList<>(5);
+        while (actual.size() < 5) {
+            actual.addAll(channel.fetchRecords(5, 0));
+        }
+        producer.join();
+        for (int i = 0; i < 5; i++) {
+            assertThat(((DataRecord) actual.get(i)).getColumn(0).getValue(), is(i + 1));
+        }
+        channel.close();
+        assertFalse(directory.toFile().exists());
+    }
+    
+    @Test
+    public void assertAckSpilledRecordsOfMultiplexChannel() throws InterruptedException {
+        Properties props = new Properties();
+        props.setProperty("block-queue-size", "1");
+        props.setProperty("segment-size", "128");
+        props.setProperty("spill-directory", temporaryFolder.getRoot().getAbsolutePath());
+        SpillPipelineChannelCreator channelCreator = new SpillPipelineChannelCreator();
+        channelCreator.init(props);
+        List<Record> actual = Collections.synchronizedList(new ArrayList<>(21));
+        PipelineChannel channel = channelCreator.createPipelineChannel(2, actual::addAll);
+        for (int i = 1; i <= 20; i++) {
+            channel.pushRecord(createDataRecord(i));
+        }
+        channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        assertTrue(Arrays.stream(Objects.requireNonNull(temporaryFolder.getRoot().listFiles())).allMatch(each -> Objects.requireNonNull(each.list()).length > 0));
+        Thread[] consumers = new Thread[2];
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i] = new Thread(() -> {
+                List<Record> records;
+                do {
+                    records = channel.fetchRecords(3, 0);
+                    channel.ack(records);
+                } while (records.isEmpty() || !(records.get(records.size() - 1) instanceof FinishedRecord));
+            });
+            consumers[i].start();
+        }
+        for (Thread each : consumers) {
+            each.join(10000L);
+            assertFalse(each.isAlive());
+        }
+        assertThat(actual.size(), is(21));
+        for (int i = 0; i < 20; i++) {
+            assertThat(((DataRecord) actual.get(i)).getColumnValue(0), is((Object) (i + 1)));
+        }
+        assertThat(actual.get(20), instanceOf(FinishedRecord.class));
+        channel.close();
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(new IntegerPrimaryKeyPosition(id, id), 2);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", id, true, true));
+        result.addColumn(new Column("status", "OK", true, false));
+        return result;
+    }
+    
+    private static final class FixturePosition implements IngestPosition<FixturePosition> {
+        
+        @Override
+        public int compareTo(final FixturePosition position) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper;
+
+import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.fixture.FixtureInventoryDumper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.SimpleMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InventoryDumperTest {
+    
+    private final StandardPipelineDataSourceConfiguration dataSourceConfig = new StandardPipelineDataSourceConfiguration(
+            "jdbc:h2:mem:test_inventory_dumper;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "root");
+    
+    private final PipelineDataSourceManager dataSourceManager = new PipelineDataSourceManager();
+    
+    private PipelineDataSourceWrapper dataSource;
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = dataSourceManager.getDataSource(dataSourceConfig);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id INT)");
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES ('a', 1), ('m', 2), ('~', 3), ('~a', 4)");
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertDumpWithStringPrimaryKeyRange() {
+        assertThat(dump(new StringPrimaryKeyPosition("a", "m")), is(Arrays.asList("a", "m")));
+    }
+    
+    @Test
+    public void assertDumpWithLegacyStringPrimaryKeyPosition() {
+        assertThat(dump(new StringPrimaryKeyPosition("!", "~")), is(Arrays.asList("a", "m", "~", "~a")));
+    }
+    
+    private List<Object> dump(final IngestPosition<?> position) {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(100);
+        new FixtureInventoryDumper(createInventoryDumperConfiguration(position), channel, dataSource, new PipelineTableMetaDataLoader(dataSource)).start();
+        List<Record> records = channel.fetchRecords(100, 0);
+        return records.stream().filter(each -> each instanceof DataRecord).map(each -> ((DataRecord) each).getColumn(0).getValue()).collect(Collectors.toList());
+    }
+    
+    private InventoryDumperConfiguration createInventoryDumperConfiguration(final IngestPosition<?> position) {
+        DumperConfiguration dumperConfig = new DumperConfiguration();
+        dumperConfig.setDataSourceConfig(dataSourceConfig);
+        dumperConfig.setTableNameSchemaNameMapping(new TableNameSchemaNameMapping(Collections.emptyMap()));
+        InventoryDumperConfiguration result = new InventoryDumperConfiguration(dumperConfig);
+        result.setActualTableName("t_order");
+        result.setLogicTableName("t_order");
+        result.setUniqueKey("order_id");
+        result.setUniqueKeyDataType(Types.VARCHAR);
+        result.setPosition(position);
+        return result;
+    }
+}
@@ -22,8 +22,14 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class DataRecordTest {
     
@@ -56,4 +62,43 @@ public final class DataRecordTest {
         afterDataRecord.addColumn(new Column("name", "2", true, false));
         assertThat(beforeDataRecord.getKey(), is(afterDataRecord.getOldKey()));
     }
+    
+    @Test
+    public void assertSharedColumnNames() {
+        List<String> columnNames = Arrays.asList("id", "name");
+        beforeDataRecord = new DataRecord(new PlaceholderPosition(), columnNames);
+        beforeDataRecord.addColumn("id", null, 1, true, true);
+        beforeDataRecord.addColumn("name", null, "1", true, false);
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), beforeDataRecord.getColumnNames());
+        afterDataRecord.addColumn("id", 1, 2, true, true);
+        afterDataRecord.addColumn("name", null, "2", false, false);
+        assertThat(afterDataRecord.getColumnNames(), is(columnNames));
+        assertThat(afterDataRecord.getColumnCount(), is(2));
+        assertThat(afterDataRecord.getColumnOldValue(0), is((Object) 1));
+        assertThat(afterDataRecord.getColumnValue(0), is((Object) 2));
+        assertNull(afterDataRecord.getColumnOldValue(1));
+        assertTrue(afterDataRecord.isColumnUniqueKey(0));
+        assertFalse(afterDataRecord.isColumnUpdated(1));
+        assertThat(afterDataRecord.getColumn(1).getName(), is("name"));
+        assertThat(afterDataRecord.getColumn(1).getValue(), is((Object) "2"));
+    }
+    
+    @Test
+    public void assertAddColumnNotMatchSharedColumnNames() {
+        List<String> columnNames = Arrays.asList("id", "name");
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), columnNames);
+        dataRecord.addColumn("id", null, 1, true, true);
+        dataRecord.addColumn(new Column("status", "ok", true, false));
+        dataRecord.addColumn(new Column("extra", "x", true, false));
+        assertThat(dataRecord.getColumnNames(), is(Arrays.asList("id", "status", "extra")));
+        assertThat(columnNames, is(Arrays.asList("id", "name")));
+        assertThat(dataRecord.getColumnValue(2), is((Object) "x"));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetColumnValueOutOfCount() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), Arrays.asList("id", "name"));
+        dataRecord.addColumn("id", null, 1, true, true);
+        dataRecord.getColumnValue(1);
+    }
 }
@@ -51,6 +51,8 @@ public final class JobProgressYamlSwapperTest {
         assertThat(actual.getIncremental().size(), is(1));
         assertTrue(actual.getIncremental().containsKey("ds0"));
         assertNull(actual.getIncremental().get("position"));
+        assertThat(actual.getInputRate(), is(100.0D));
+        assertThat(actual.getOutputRate(), is(50.0D));
     }
     
     @Test
@@ -58,6 +60,7 @@ public final class JobProgressYamlSwapperTest {
         JobProgress jobProgress = getJobProgress(ConfigurationFileUtil.readFile("job-progress-no-finished.yaml"));
         YamlJobProgress actual = JOB_PROGRESS_YAML_SWAPPER.swapToYaml(jobProgress);
         assertTrue(actual.getIncremental().isEmpty());
+        assertNull(actual.getInputRate());
     }
     
     @Test
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveJobRateLimitAlgorithmTest {
+    
+    private AdaptiveJobRateLimitAlgorithm algorithm;
+    
+    @Before
+    public void setUp() {
+        algorithm = new AdaptiveJobRateLimitAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("target-latency-millis", "100");
+        props.setProperty("initial-permits-per-second", "100");
+        props.setProperty("min-permits-per-second", "10");
+        props.setProperty("max-permits-per-second", "120");
+        props.setProperty("additive-increase", "10");
+        props.setProperty("multiplicative-decrease", "0.5");
+        algorithm.init(props);
+    }
+    
+    @Test
+    public void assertIncreaseAdditivelyWhenLatencyIsLow() {
+        algorithm.feedback(JobOperationType.SELECT, 50L);
+        assertThat(algorithm.getCurrentRate().get(), is(110D));
+        algorithm.feedback(JobOperationType.SELECT, 50L);
+        algorithm.feedback(JobOperationType.SELECT, 50L);
+        assertThat(algorithm.getCurrentRate().get(), is(120D));
+        assertThat(algorithm.getBatchSize(1000), is(1000));
+    }
+    
+    @Test
+    public void assertDecreaseMultiplicativelyWhenLatencyIsHigh() {
+        algorithm.feedback(JobOperationType.SELECT, 500L);
+        assertThat(algorithm.getCurrentRate().get(), is(50D));
+        assertThat(algorithm.getBatchSize(1000), is(500));
+        algorithm.feedback(JobOperationType.SELECT, 500L);
+        algorithm.feedback(JobOperationType.SELECT, 500L);
+        assertThat(algorithm.getCurrentRate().get(), is(12.5D));
+        assertThat(algorithm.getBatchSize(1000), is(125));
+    }
+    
+    @Test
+    public void assertIntercept() {
+        algorithm.intercept(JobOperationType.INSERT, 1);
+        algorithm.intercept(JobOperationType.SELECT, null);
+        assertThat(algorithm.getType(), is("ADAPTIVE"));
+    }
+}
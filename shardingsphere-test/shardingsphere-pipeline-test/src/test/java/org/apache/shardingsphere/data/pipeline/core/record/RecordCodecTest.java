@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.record;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class RecordCodecTest {
+    
+    private final RecordCodec recordCodec = new RecordCodec(each -> new PlaceholderPosition());
+    
+    @Test
+    public void assertEncodeAndDecodeDataRecord() {
+        DataRecord dataRecord = new DataRecord(new IntegerPrimaryKeyPosition(1, 100), 6);
+        dataRecord.setType(IngestDataChangeType.UPDATE);
+        dataRecord.setTableName("t_order");
+        dataRecord.setCommitTime(123L);
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        dataRecord.addColumn(new Column("order_id", 1L, 2L, true, true));
+        dataRecord.addColumn(new Column("user_id", 10, false, false));
+        dataRecord.addColumn(new Column("status", "OK", true, false));
+        dataRecord.addColumn(new Column("price", new BigDecimal("12.345"), true, false));
+        dataRecord.addColumn(new Column("created_time", timestamp, true, false));
+        dataRecord.addColumn(new Column("remark", null, true, false));
+        Record actual = recordCodec.decode(recordCodec.encode(dataRecord));
+        assertThat(actual, instanceOf(DataRecord.class));
+        DataRecord actualDataRecord = (DataRecord) actual;
+        assertThat(actualDataRecord.getPosition().toString(), is("i,1,100"));
+        assertThat(actualDataRecord.getType(), is(IngestDataChangeType.UPDATE));
+        assertThat(actualDataRecord.getTableName(), is("t_order"));
+        assertThat(actualDataRecord.getCommitTime(), is(123L));
+        assertThat(actualDataRecord.getColumnCount(), is(6));
+        assertThat(actualDataRecord.getColumn(0).getOldValue(), is(1L));
+        assertThat(actualDataRecord.getColumn(0).getValue(), is(2L));
+        assertThat(actualDataRecord.getColumn(0).isUniqueKey(), is(true));
+        assertThat(actualDataRecord.getColumn(1).getValue(), is(10));
+        assertThat(actualDataRecord.getColumn(1).isUpdated(), is(false));
+        assertThat(actualDataRecord.getColumn(2).getValue(), is("OK"));
+        assertThat(actualDataRecord.getColumn(3).getValue(), is(new BigDecimal("12.345")));
+        assertThat(actualDataRecord.getColumn(4).getValue(), is(timestamp));
+        assertThat(actualDataRecord.getColumn(5).getValue(), nullValue());
+        assertThat(actualDataRecord.getKey(), is(dataRecord.getKey()));
+        assertThat(actualDataRecord.getOldKey(), is(dataRecord.getOldKey()));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeSerializableValue() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        dataRecord.setType(IngestDataChangeType.INSERT);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn(new Column("order_date", LocalDate.of(2022, 1, 1), true, false));
+        DataRecord actual = (DataRecord) recordCodec.decode(recordCodec.encode(dataRecord));
+        assertThat(actual.getColumn(0).getValue(), is(LocalDate.of(2022, 1, 1)));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeFinishedRecord() {
+        Record actual = recordCodec.decode(recordCodec.encode(new FinishedRecord(new FinishedPosition())));
+        assertThat(actual, instanceOf(FinishedRecord.class));
+        assertThat(actual.getPosition(), instanceOf(FinishedPosition.class));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodePlaceholderRecord() {
+        Record actual = recordCodec.decode(recordCodec.encode(new PlaceholderRecord(new PlaceholderPosition())));
+        assertThat(actual, instanceOf(PlaceholderRecord.class));
+        assertThat(actual.getPosition(), instanceOf(PlaceholderPosition.class));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeStringPrimaryKeyPositionContainsComma() {
+        Record actual = recordCodec.decode(recordCodec.encode(new FinishedRecord(new StringPrimaryKeyPosition("a,b", "c,d"))));
+        assertThat(actual.getPosition(), instanceOf(StringPrimaryKeyPosition.class));
+        assertThat(((StringPrimaryKeyPosition) actual.getPosition()).getBeginValue(), is("a,b"));
+        assertThat(((StringPrimaryKeyPosition) actual.getPosition()).getEndValue(), is("c,d"));
+    }
+}
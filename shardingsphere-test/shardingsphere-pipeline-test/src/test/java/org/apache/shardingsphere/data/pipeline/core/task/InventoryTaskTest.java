@@ -93,6 +93,39 @@ public final class InventoryTaskTest {
         }
     }
     
+    @Test
+    public void assertGetProgressWithStreamingQuery() throws SQLException {
+        initTableData(taskConfig.getDumperConfig());
+        InventoryDumperConfiguration inventoryDumperConfig = createInventoryDumperConfiguration("t_order", "t_order");
+        inventoryDumperConfig.setStreamingQuery(true);
+        PipelineDataSourceWrapper dataSource = DATA_SOURCE_MANAGER.getDataSource(inventoryDumperConfig.getDataSourceConfig());
+        PipelineTableMetaDataLoader metaDataLoader = new PipelineTableMetaDataLoader(dataSource);
+        try (
+                InventoryTask inventoryTask = new InventoryTask(inventoryDumperConfig, taskConfig.getImporterConfig(),
+                        PipelineContextUtil.getPipelineChannelCreator(),
+                        new PipelineDataSourceManager(), dataSource, metaDataLoader, PipelineContextUtil.getExecuteEngine())) {
+            inventoryTask.start();
+            assertThat(inventoryTask.getProgress().getPosition(), instanceOf(IntegerPrimaryKeyPosition.class));
+        }
+    }
+    
+    @Test
+    public void assertGetProgressWithStreamingQueryInMultipleRounds() throws SQLException {
+        initTableData(taskConfig.getDumperConfig());
+        InventoryDumperConfiguration inventoryDumperConfig = createInventoryDumperConfiguration("t_order", "t_order");
+        inventoryDumperConfig.setStreamingQuery(true);
+        inventoryDumperConfig.setStreamingQueryMaxRows(1);
+        PipelineDataSourceWrapper dataSource = DATA_SOURCE_MANAGER.getDataSource(inventoryDumperConfig.getDataSourceConfig());
+        PipelineTableMetaDataLoader metaDataLoader = new PipelineTableMetaDataLoader(dataSource);
+        try (
+                InventoryTask inventoryTask = new InventoryTask(inventoryDumperConfig, taskConfig.getImporterConfig(),
+                        PipelineContextUtil.getPipelineChannelCreator(),
+                        new PipelineDataSourceManager(), dataSource, metaDataLoader, PipelineContextUtil.getExecuteEngine())) {
+            inventoryTask.start();
+            assertThat(inventoryTask.getProgress().getPosition(), instanceOf(IntegerPrimaryKeyPosition.class));
+        }
+    }
+    
     private void initTableData(final DumperConfiguration dumperConfig) throws SQLException {
         try (
                 PipelineDataSourceManager dataSourceManager = new PipelineDataSourceManager();
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfigura
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.RuleAlteredJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobProgress;
 import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
@@ -99,7 +100,29 @@ public final class InventoryTaskSplitterTest {
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
-        inventoryTaskSplitter.splitInventoryData(jobContext);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(1));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is("999"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithVarcharPrimary() throws SQLException {
+        initVarcharPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(3));
+        assertThat(((StringPrimaryKeyPosition) actual.get(1).getProgress().getPosition()).getBeginValue(), is("k011"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(1).getProgress().getPosition()).getEndValue(), is("k020"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(2).getProgress().getPosition()).getBeginValue(), is("k021"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(2).getProgress().getPosition()).getEndValue(), is("k025"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithEmptyVarcharPrimaryTable() throws SQLException {
+        initEmptyVarcharPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(1));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue(), is(""));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is(""));
     }
     
     @Test
@@ -155,6 +178,29 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initVarcharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 25; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%03d', 'x')", i));
+            }
+        }
+    }
+    
+    private void initEmptyVarcharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.data.pipeline.core.fixture.FixturePipelineSQLBu
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.junit.Test;
 
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -46,6 +47,24 @@ public final class PipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = pipelineSQLBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t2"), 3, shardingColumnsMap);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
+    @Test
+    public void assertBuildInventoryDumpSQLWithStringUniqueKey() {
+        assertThat(pipelineSQLBuilder.buildInventoryDumpSQL(null, "t2", "id", Types.VARCHAR, true), is("SELECT * FROM `t2` WHERE `id` >= ? AND `id` <= ? ORDER BY `id` ASC LIMIT ?"));
+        assertThat(pipelineSQLBuilder.buildInventoryDumpSQL(null, "t2", "id", Types.VARCHAR, false), is("SELECT * FROM `t2` WHERE `id` > ? AND `id` <= ? ORDER BY `id` ASC LIMIT ?"));
+    }
+    
+    @Test
+    public void assertBuildUnboundedInventoryDumpSQL() {
+        assertThat(pipelineSQLBuilder.buildUnboundedInventoryDumpSQL(null, "t2", "id", true), is("SELECT * FROM `t2` WHERE `id` >= ? ORDER BY `id` ASC LIMIT ?"));
+        assertThat(pipelineSQLBuilder.buildUnboundedInventoryDumpSQL(null, "t2", "id", false), is("SELECT * FROM `t2` WHERE `id` > ? ORDER BY `id` ASC LIMIT ?"));
+    }
+    
     @Test
     public void assertBuildUpdateSQLWithPrimaryKey() {
         String actual = pipelineSQLBuilder.buildUpdateSQL(null, mockDataRecord("t2"), RecordUtil.extractPrimaryColumns(mockDataRecord("t2")), shardingColumnsMap);